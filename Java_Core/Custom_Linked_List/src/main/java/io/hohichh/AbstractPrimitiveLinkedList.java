@@ -0,0 +1,197 @@
+package io.hohichh;
+
+import java.util.Arrays;
+import java.util.NoSuchElementException;
+
+/**
+ * Base class for the primitive-specialized linked lists.
+ * Instead of node objects, the links live in two parallel {@code int} arrays indexed by slot number,
+ * and subclasses keep the element values in a primitive array indexed by the same slot.
+ * Released slots are chained into a free list and reused by later insertions.
+ */
+abstract class AbstractPrimitiveLinkedList {
+    /** Link value marking the absence of a neighbouring slot. */
+    static final int NIL = -1;
+    /** Value stored in {@code prev} of a slot that sits in the free list. */
+    static final int FREE = -2;
+
+    static final int DEFAULT_CAPACITY = 16;
+
+    /**
+     * Whether the incubating Vector API is available, i.e. the JVM was started with
+     * {@code --add-modules jdk.incubator.vector}. Subclasses only touch vector classes when it is.
+     */
+    static final boolean VECTOR_API = ModuleLayer.boot().findModule("jdk.incubator.vector").isPresent();
+
+    int[] next;
+    int[] prev;
+    int head = NIL;
+    int tail = NIL;
+    int size;
+    /** Number of slots that have ever been handed out; slots at or above it were never used. */
+    int used;
+    private int free = NIL;
+
+    AbstractPrimitiveLinkedList(int initialCapacity){
+        if(initialCapacity < 1){
+            throw new IllegalArgumentException("Initial capacity must be positive: " + initialCapacity);
+        }
+        next = new int[initialCapacity];
+        prev = new int[initialCapacity];
+    }
+
+    /**
+     * Returns the number of elements in this list.
+     *
+     * @return the number of elements in this list
+     */
+    public int size(){
+        return size;
+    }
+
+    /**
+     * Grows the value array of the subclass to the given capacity.
+     *
+     * @param newCapacity the new length of the value array
+     */
+    abstract void growValues(int newCapacity);
+
+    /**
+     * Takes a slot from the free list, or the next never used slot, growing the arrays if needed.
+     *
+     * @return the index of a slot that is not linked into the list
+     */
+    int allocateSlot(){
+        if(free != NIL){
+            int slot = free;
+            free = next[slot];
+            return slot;
+        }
+        if(used == next.length){
+            int newCapacity = next.length + (next.length >> 1) + 1;
+            next = Arrays.copyOf(next, newCapacity);
+            prev = Arrays.copyOf(prev, newCapacity);
+            growValues(newCapacity);
+        }
+        return used++;
+    }
+
+    /**
+     * Returns an unlinked slot to the free list.
+     *
+     * @param slot the slot to release
+     */
+    private void releaseSlot(int slot){
+        prev[slot] = FREE;
+        next[slot] = free;
+        free = slot;
+    }
+
+    void linkFirst(int slot){
+        prev[slot] = NIL;
+        next[slot] = head;
+        if(head == NIL){
+            tail = slot;
+        } else{
+            prev[head] = slot;
+        }
+        head = slot;
+        size++;
+    }
+
+    void linkLast(int slot){
+        next[slot] = NIL;
+        prev[slot] = tail;
+        if(tail == NIL){
+            head = slot;
+        } else{
+            next[tail] = slot;
+        }
+        tail = slot;
+        size++;
+    }
+
+    /**
+     * Links the slot in front of {@code succ}, which must not be the head.
+     *
+     * @param slot the slot to link
+     * @param succ the slot that will follow it
+     */
+    void linkBefore(int slot, int succ){
+        int pred = prev[succ];
+        prev[slot] = pred;
+        next[slot] = succ;
+        next[pred] = slot;
+        prev[succ] = slot;
+        size++;
+    }
+
+    /**
+     * Unlinks the slot from the chain and releases it.
+     *
+     * @param slot the slot to unlink
+     */
+    void unlink(int slot){
+        int p = prev[slot];
+        int n = next[slot];
+        if(p == NIL){
+            head = n;
+        } else{
+            next[p] = n;
+        }
+        if(n == NIL){
+            tail = p;
+        } else{
+            prev[n] = p;
+        }
+        releaseSlot(slot);
+        size--;
+    }
+
+    int headSlot(){
+        if(head == NIL){
+            throw new NoSuchElementException();
+        }
+        return head;
+    }
+
+    int tailSlot(){
+        if(tail == NIL){
+            throw new NoSuchElementException();
+        }
+        return tail;
+    }
+
+    void checkPositionIndex(int index){
+        if(index < 0 || index > size){
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+        }
+    }
+
+    /**
+     * Returns the slot at the specified element index, walking from the head
+     * if the index is in the first half and from the tail otherwise.
+     *
+     * @param index the index of the element
+     * @return the slot holding the element
+     * @throws IndexOutOfBoundsException if the index is out of range (index < 0 || index >= size)
+     */
+    int slotByIndex(int index){
+        if(index < 0 || index >= size){
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+        }
+        int search;
+        if(index < (size >> 1)){
+            search = head;
+            for(int i = 0; i < index; i++){
+                search = next[search];
+            }
+        } else{
+            search = tail;
+            for(int i = size - 1; i > index; i--){
+                search = prev[search];
+            }
+        }
+        return search;
+    }
+}
@@ -0,0 +1,73 @@
+package io.hohichh;
+
+/**
+ * Decides whether a new key may enter a full {@link CustomLinkedListCache} at the expense of
+ * the entry it would evict. The cache reports every access to the policy, so frequency-based policies
+ * can keep their own statistics, which may also cover keys that are not currently cached.
+ *
+ * @param <K> the type of keys
+ */
+public interface AdmissionPolicy<K> {
+
+    /**
+     * Records a lookup or insertion of the key.
+     * @param key the key accessed
+     */
+    void recordAccess(K key);
+
+    /**
+     * Returns whether the candidate should replace the victim in a full cache.
+     * @param candidate the key about to be inserted
+     * @param victim the least recently used key, which would be evicted
+     * @return {@code true} to evict the victim and insert the candidate
+     */
+    boolean admit(K candidate, K victim);
+
+    /**
+     * Returns a policy that admits every key, which turns the cache into a plain LRU cache.
+     *
+     * @param <K> the type of keys
+     * @return the LRU policy
+     */
+    static <K> AdmissionPolicy<K> lru(){
+        return new AdmissionPolicy<>(){
+            @Override
+            public void recordAccess(K key){
+            }
+
+            @Override
+            public boolean admit(K candidate, K victim){
+                return true;
+            }
+        };
+    }
+
+    /**
+     * Returns a policy that keeps an exact access count for every key seen and admits a candidate
+     * only if it has been accessed at least as often as the victim. All counts are halved,
+     * and keys whose count drops to zero are forgotten, after every {@code sampleSize} accesses.
+     *
+     * @param sampleSize the number of accesses between two halvings
+     * @param <K> the type of keys
+     * @return the LFU policy
+     * @throws IllegalArgumentException if sampleSize is not positive
+     */
+    static <K> AdmissionPolicy<K> lfu(int sampleSize){
+        return new LfuAdmissionPolicy<>(sampleSize);
+    }
+
+    /**
+     * Returns a TinyLFU policy: access frequencies are estimated in a count-min sketch of small
+     * saturating counters, which costs a fixed amount of memory regardless of the number of keys,
+     * and a candidate is admitted only if its estimate is higher than that of the victim.
+     * The counters are halved periodically so that old popularity fades.
+     *
+     * @param capacity the capacity of the cache the policy is used with
+     * @param <K> the type of keys
+     * @return the TinyLFU policy
+     * @throws IllegalArgumentException if capacity is not positive
+     */
+    static <K> AdmissionPolicy<K> tinyLfu(int capacity){
+        return new TinyLfuAdmissionPolicy<>(capacity);
+    }
+}
@@ -0,0 +1,383 @@
+package io.hohichh;
+
+import io.hohichh.CustomLinkedList.CustomNode;
+
+import java.util.Collection;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * A bounded, thread-safe FIFO queue built on the {@link CustomNode} chain of {@link CustomLinkedList}.
+ * It replaces hand-written wait/notify around a list used as a buffer between producer and consumer threads.
+ * <p>
+ * Producers and consumers use separate locks (the two-lock queue of Michael and Scott):
+ * insertion only touches the tail under the put lock, removal only touches the head under the take lock,
+ * and the element count is an atomic shared by both sides. The chain always starts with a dummy node
+ * whose element is {@code null}, so the two ends never share a node while the queue is in use.
+ * Null elements are not permitted.
+ *
+ * @param <E> the type of elements held in this queue
+ */
+public class BlockingCustomLinkedList<E> {
+    private final int capacity;
+    private final AtomicInteger count = new AtomicInteger();
+
+    /** Dummy node; the first element is {@code head.getNext()}. Guarded by takeLock. */
+    private CustomNode<E> head;
+    /** The last node. Guarded by putLock. */
+    private CustomNode<E> tail;
+
+    private final ReentrantLock takeLock = new ReentrantLock();
+    private final Condition notEmpty = takeLock.newCondition();
+    private final ReentrantLock putLock = new ReentrantLock();
+    private final Condition notFull = putLock.newCondition();
+
+    /**
+     * Constructs a queue without a practical capacity limit.
+     */
+    public BlockingCustomLinkedList(){
+        this(Integer.MAX_VALUE);
+    }
+
+    /**
+     * Constructs a queue that holds at most {@code capacity} elements.
+     *
+     * @param capacity the capacity of this queue
+     * @throws IllegalArgumentException if capacity is not positive
+     */
+    public BlockingCustomLinkedList(int capacity){
+        if(capacity <= 0){
+            throw new IllegalArgumentException("Capacity must be positive: " + capacity);
+        }
+        this.capacity = capacity;
+        head = tail = new CustomNode<>(null);
+    }
+
+    /**
+     * Returns the number of elements in this queue.
+     *
+     * @return the number of elements in this queue
+     */
+    public int size(){
+        return count.get();
+    }
+
+    /**
+     * Returns the number of elements this queue can accept without blocking.
+     *
+     * @return the remaining capacity
+     */
+    public int remainingCapacity(){
+        return capacity - count.get();
+    }
+
+    /**
+     * Inserts the element at the tail, waiting for space to become available if necessary.
+     *
+     * @param e the element to add
+     * @throws InterruptedException if interrupted while waiting
+     * @throws NullPointerException if the element is null
+     */
+    public void put(E e) throws InterruptedException{
+        Objects.requireNonNull(e);
+        CustomNode<E> node = new CustomNode<>(e);
+        int c;
+        putLock.lockInterruptibly();
+        try{
+            while(count.get() == capacity){
+                notFull.await();
+            }
+            c = enqueue(node);
+        } finally{
+            putLock.unlock();
+        }
+        if(c == 0){
+            signalNotEmpty();
+        }
+    }
+
+    /**
+     * Inserts the element at the tail if space is available right away.
+     *
+     * @param e the element to add
+     * @return {@code true} if the element was added, {@code false} if the queue is full
+     * @throws NullPointerException if the element is null
+     */
+    public boolean offer(E e){
+        Objects.requireNonNull(e);
+        if(count.get() == capacity){
+            return false;
+        }
+        CustomNode<E> node = new CustomNode<>(e);
+        int c = -1;
+        putLock.lock();
+        try{
+            if(count.get() < capacity){
+                c = enqueue(node);
+            }
+        } finally{
+            putLock.unlock();
+        }
+        if(c == 0){
+            signalNotEmpty();
+        }
+        return c >= 0;
+    }
+
+    /**
+     * Inserts the element at the tail, waiting up to the timeout for space to become available.
+     *
+     * @param e the element to add
+     * @param timeout how long to wait before giving up
+     * @param unit the unit of the timeout
+     * @return {@code true} if the element was added, {@code false} if the timeout elapsed first
+     * @throws InterruptedException if interrupted while waiting
+     * @throws NullPointerException if the element is null
+     */
+    public boolean offer(E e, long timeout, TimeUnit unit) throws InterruptedException{
+        Objects.requireNonNull(e);
+        long nanos = unit.toNanos(timeout);
+        CustomNode<E> node = new CustomNode<>(e);
+        int c;
+        putLock.lockInterruptibly();
+        try{
+            while(count.get() == capacity){
+                if(nanos <= 0){
+                    return false;
+                }
+                nanos = notFull.awaitNanos(nanos);
+            }
+            c = enqueue(node);
+        } finally{
+            putLock.unlock();
+        }
+        if(c == 0){
+            signalNotEmpty();
+        }
+        return true;
+    }
+
+    /**
+     * Removes and returns the head element, waiting for one to become available if necessary.
+     *
+     * @return the head element
+     * @throws InterruptedException if interrupted while waiting
+     */
+    public E take() throws InterruptedException{
+        E e;
+        int c;
+        takeLock.lockInterruptibly();
+        try{
+            while(count.get() == 0){
+                notEmpty.await();
+            }
+            e = dequeue();
+            c = count.getAndDecrement();
+            if(c > 1){
+                notEmpty.signal();
+            }
+        } finally{
+            takeLock.unlock();
+        }
+        if(c == capacity){
+            signalNotFull();
+        }
+        return e;
+    }
+
+    /**
+     * Removes and returns the head element, or returns {@code null} if the queue is empty.
+     *
+     * @return the head element, or {@code null} if the queue is empty
+     */
+    public E poll(){
+        if(count.get() == 0){
+            return null;
+        }
+        E e = null;
+        int c = -1;
+        takeLock.lock();
+        try{
+            if(count.get() > 0){
+                e = dequeue();
+                c = count.getAndDecrement();
+                if(c > 1){
+                    notEmpty.signal();
+                }
+            }
+        } finally{
+            takeLock.unlock();
+        }
+        if(c == capacity){
+            signalNotFull();
+        }
+        return e;
+    }
+
+    /**
+     * Removes and returns the head element, waiting up to the timeout for one to become available.
+     *
+     * @param timeout how long to wait before giving up
+     * @param unit the unit of the timeout
+     * @return the head element, or {@code null} if the timeout elapsed first
+     * @throws InterruptedException if interrupted while waiting
+     */
+    public E poll(long timeout, TimeUnit unit) throws InterruptedException{
+        long nanos = unit.toNanos(timeout);
+        E e;
+        int c;
+        takeLock.lockInterruptibly();
+        try{
+            while(count.get() == 0){
+                if(nanos <= 0){
+                    return null;
+                }
+                nanos = notEmpty.awaitNanos(nanos);
+            }
+            e = dequeue();
+            c = count.getAndDecrement();
+            if(c > 1){
+                notEmpty.signal();
+            }
+        } finally{
+            takeLock.unlock();
+        }
+        if(c == capacity){
+            signalNotFull();
+        }
+        return e;
+    }
+
+    /**
+     * Returns the head element without removing it.
+     *
+     * @return the head element
+     * @throws NoSuchElementException if this queue is empty
+     */
+    public E getFirst(){
+        takeLock.lock();
+        try{
+            CustomNode<E> first = head.getNext();
+            if(count.get() == 0 || first == null){
+                throw new NoSuchElementException();
+            }
+            return first.getEl();
+        } finally{
+            takeLock.unlock();
+        }
+    }
+
+    /**
+     * Moves up to {@code maxElements} elements from the head of this queue into the collection.
+     * The elements are handed over while holding the take lock once, and the head is advanced
+     * only past the elements the collection accepted: if {@code c.add} throws,
+     * the remaining elements stay in this queue.
+     *
+     * @param c the collection receiving the elements
+     * @param maxElements the maximum number of elements to move
+     * @return the number of elements moved
+     */
+    public int drainTo(Collection<? super E> c, int maxElements){
+        Objects.requireNonNull(c);
+        if(maxElements <= 0){
+            return 0;
+        }
+        boolean signalNotFull = false;
+        takeLock.lock();
+        try{
+            int n = Math.min(maxElements, count.get());
+            CustomNode<E> h = head;
+            int i = 0;
+            try{
+                while(i < n){
+                    CustomNode<E> p = h.getNext();
+                    c.add(p.getEl());
+                    p.setEl(null);
+                    h.setNext(null);
+                    h = p;
+                    i++;
+                }
+                return n;
+            } finally{
+                if(i > 0){
+                    head = h;
+                    int before = count.getAndAdd(-i);
+                    if(before > i){
+                        notEmpty.signal();
+                    }
+                    signalNotFull = before == capacity;
+                }
+            }
+        } finally{
+            takeLock.unlock();
+            if(signalNotFull){
+                signalNotFull();
+            }
+        }
+    }
+
+    /**
+     * Moves all available elements from this queue into the collection.
+     *
+     * @param c the collection receiving the elements
+     * @return the number of elements moved
+     */
+    public int drainTo(Collection<? super E> c){
+        return drainTo(c, Integer.MAX_VALUE);
+    }
+
+    /**
+     * Links the node at the tail and returns the element count before the insertion.
+     * Must be called with the put lock held and space available.
+     *
+     * @param node the node to link
+     * @return the element count before the insertion
+     */
+    private int enqueue(CustomNode<E> node){
+        tail.setNext(node);
+        tail = node;
+        int c = count.getAndIncrement();
+        if(c + 1 < capacity){
+            notFull.signal();
+        }
+        return c;
+    }
+
+    /**
+     * Unlinks the first node and makes it the new dummy head.
+     * Must be called with the take lock held and an element available.
+     *
+     * @return the removed element
+     */
+    private E dequeue(){
+        CustomNode<E> oldHead = head;
+        CustomNode<E> first = oldHead.getNext();
+        oldHead.setNext(null);
+        head = first;
+        E e = first.getEl();
+        first.setEl(null);
+        return e;
+    }
+
+    private void signalNotEmpty(){
+        takeLock.lock();
+        try{
+            notEmpty.signal();
+        } finally{
+            takeLock.unlock();
+        }
+    }
+
+    private void signalNotFull(){
+        putLock.lock();
+        try{
+            notFull.signal();
+        } finally{
+            putLock.unlock();
+        }
+    }
+}
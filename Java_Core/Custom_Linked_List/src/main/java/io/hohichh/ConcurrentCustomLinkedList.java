@@ -0,0 +1,328 @@
+package io.hohichh;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * A lock-free, thread-safe doubly-linked deque supporting operations at both ends.
+ * It is meant for multi-producer/multi-consumer use where wrapping {@link CustomLinkedList}
+ * in synchronized blocks would serialize all threads.
+ * <p>
+ * The implementation follows M. Michael's CAS-based deque: the leftmost node, the rightmost node and
+ * a status word are kept together in one immutable anchor that is replaced with a single CAS.
+ * A push swings the anchor to the new node and marks it unstable; the link from the old end node to
+ * the new one is then fixed up by whichever thread comes next ("stabilization"), so a stalled thread
+ * never blocks the others. Every operation is linearizable at the successful CAS of the anchor,
+ * or at the anchor read for {@code getFirst}, {@code getLast} and {@code isEmpty}.
+ * <p>
+ * Null elements are not permitted. There is no {@code size()}: under concurrent updates
+ * any count would already be stale when returned.
+ *
+ * @param <E> the type of elements held in this collection
+ */
+public class ConcurrentCustomLinkedList<E> {
+    private static final int STABLE = 0;
+    private static final int RPUSH = 1;
+    private static final int LPUSH = 2;
+
+    private final AtomicReference<Anchor<E>> anchor = new AtomicReference<>(new Anchor<>(null, null, STABLE));
+
+    /**
+     * Returns {@code true} if this deque contains no elements.
+     *
+     * @return {@code true} if this deque contains no elements
+     */
+    public boolean isEmpty(){
+        return anchor.get().left == null;
+    }
+
+    /**
+     * Inserts the specified element at the beginning of this deque.
+     *
+     * @param e the element to add
+     * @throws NullPointerException if the element is null
+     */
+    public void addFirst(E e){
+        Node<E> node = new Node<>(Objects.requireNonNull(e));
+        while(true){
+            Anchor<E> a = anchor.get();
+            if(a.left == null){
+                if(anchor.compareAndSet(a, new Anchor<>(node, node, STABLE))){
+                    return;
+                }
+            } else if(a.status == STABLE){
+                node.right = a.left;
+                Anchor<E> pushed = new Anchor<>(node, a.right, LPUSH);
+                if(anchor.compareAndSet(a, pushed)){
+                    stabilizeLeft(pushed);
+                    return;
+                }
+            } else{
+                stabilize(a);
+            }
+        }
+    }
+
+    /**
+     * Appends the specified element to the end of this deque.
+     *
+     * @param e the element to add
+     * @throws NullPointerException if the element is null
+     */
+    public void addLast(E e){
+        Node<E> node = new Node<>(Objects.requireNonNull(e));
+        while(true){
+            Anchor<E> a = anchor.get();
+            if(a.right == null){
+                if(anchor.compareAndSet(a, new Anchor<>(node, node, STABLE))){
+                    return;
+                }
+            } else if(a.status == STABLE){
+                node.left = a.right;
+                Anchor<E> pushed = new Anchor<>(a.left, node, RPUSH);
+                if(anchor.compareAndSet(a, pushed)){
+                    stabilizeRight(pushed);
+                    return;
+                }
+            } else{
+                stabilize(a);
+            }
+        }
+    }
+
+    /**
+     * Returns the first element of this deque.
+     *
+     * @return the first element of this deque
+     * @throws NoSuchElementException if this deque is empty
+     */
+    public E getFirst(){
+        while(true){
+            Node<E> first = anchor.get().left;
+            if(first == null){
+                throw new NoSuchElementException();
+            }
+            E e = first.el;
+            if(e != null){
+                return e;
+            }
+        }
+    }
+
+    /**
+     * Returns the last element of this deque.
+     *
+     * @return the last element of this deque
+     * @throws NoSuchElementException if this deque is empty
+     */
+    public E getLast(){
+        while(true){
+            Node<E> last = anchor.get().right;
+            if(last == null){
+                throw new NoSuchElementException();
+            }
+            E e = last.el;
+            if(e != null){
+                return e;
+            }
+        }
+    }
+
+    /**
+     * Removes and returns the first element of this deque.
+     *
+     * @return the first element of this deque
+     * @throws NoSuchElementException if this deque is empty
+     */
+    public E removeFirst(){
+        E e = pollFirst();
+        if(e == null){
+            throw new NoSuchElementException();
+        }
+        return e;
+    }
+
+    /**
+     * Removes and returns the last element of this deque.
+     *
+     * @return the last element of this deque
+     * @throws NoSuchElementException if this deque is empty
+     */
+    public E removeLast(){
+        E e = pollLast();
+        if(e == null){
+            throw new NoSuchElementException();
+        }
+        return e;
+    }
+
+    /**
+     * Removes and returns the first element of this deque, or returns {@code null} if it is empty.
+     *
+     * @return the first element of this deque, or {@code null} if it is empty
+     */
+    public E pollFirst(){
+        while(true){
+            Anchor<E> a = anchor.get();
+            if(a.left == null){
+                return null;
+            }
+            if(a.left == a.right){
+                if(anchor.compareAndSet(a, new Anchor<>(null, null, STABLE))){
+                    return a.left.clear();
+                }
+            } else if(a.status == STABLE){
+                Node<E> next = a.left.right;
+                if(anchor.compareAndSet(a, new Anchor<>(next, a.right, STABLE))){
+                    Node.LEFT.compareAndSet(next, a.left, null);
+                    return a.left.clear();
+                }
+            } else{
+                stabilize(a);
+            }
+        }
+    }
+
+    /**
+     * Removes and returns the last element of this deque, or returns {@code null} if it is empty.
+     *
+     * @return the last element of this deque, or {@code null} if it is empty
+     */
+    public E pollLast(){
+        while(true){
+            Anchor<E> a = anchor.get();
+            if(a.right == null){
+                return null;
+            }
+            if(a.left == a.right){
+                if(anchor.compareAndSet(a, new Anchor<>(null, null, STABLE))){
+                    return a.right.clear();
+                }
+            } else if(a.status == STABLE){
+                Node<E> prev = a.right.left;
+                if(anchor.compareAndSet(a, new Anchor<>(a.left, prev, STABLE))){
+                    Node.RIGHT.compareAndSet(prev, a.right, null);
+                    return a.right.clear();
+                }
+            } else{
+                stabilize(a);
+            }
+        }
+    }
+
+    private void stabilize(Anchor<E> a){
+        if(a.status == RPUSH){
+            stabilizeRight(a);
+        } else{
+            stabilizeLeft(a);
+        }
+    }
+
+    /**
+     * Completes a push at the right end: links the previous rightmost node to the pushed one
+     * and marks the anchor stable. Gives up as soon as another thread has moved the anchor on.
+     *
+     * @param a the unstable anchor left by the push
+     */
+    private void stabilizeRight(Anchor<E> a){
+        Node<E> prev = a.right.left;
+        if(anchor.get() != a){
+            return;
+        }
+        Node<E> prevNext = prev.right;
+        if(prevNext != a.right){
+            if(anchor.get() != a){
+                return;
+            }
+            if(!Node.RIGHT.compareAndSet(prev, prevNext, a.right)){
+                return;
+            }
+        }
+        anchor.compareAndSet(a, new Anchor<>(a.left, a.right, STABLE));
+    }
+
+    /**
+     * Completes a push at the left end: links the previous leftmost node to the pushed one
+     * and marks the anchor stable. Gives up as soon as another thread has moved the anchor on.
+     *
+     * @param a the unstable anchor left by the push
+     */
+    private void stabilizeLeft(Anchor<E> a){
+        Node<E> next = a.left.right;
+        if(anchor.get() != a){
+            return;
+        }
+        Node<E> nextPrev = next.left;
+        if(nextPrev != a.left){
+            if(anchor.get() != a){
+                return;
+            }
+            if(!Node.LEFT.compareAndSet(next, nextPrev, a.left)){
+                return;
+            }
+        }
+        anchor.compareAndSet(a, new Anchor<>(a.left, a.right, STABLE));
+    }
+
+    /**
+     * An immutable snapshot of both ends of the deque and of the pending push, if any.
+     * A fresh instance is created for every change, so comparing anchors by identity is free of ABA.
+     * @param <E> the type of element stored in the deque
+     */
+    private static final class Anchor<E> {
+        private final Node<E> left;
+        private final Node<E> right;
+        private final int status;
+
+        Anchor(Node<E> left, Node<E> right, int status){
+            this.left = left;
+            this.right = right;
+            this.status = status;
+        }
+    }
+
+    /**
+     * A node of the deque. The links are volatile because stabilization updates them with CAS.
+     * <p>
+     * When a node is popped, the new end node's link back to it is cleared and so is its element,
+     * so removed nodes are not kept reachable from the deque. A reader that finds the element
+     * already cleared has seen a stale anchor and reads the anchor again.
+     * @param <E> the type of element stored in the node
+     */
+    private static final class Node<E> {
+        private static final VarHandle LEFT;
+        private static final VarHandle RIGHT;
+
+        static{
+            try{
+                MethodHandles.Lookup lookup = MethodHandles.lookup();
+                LEFT = lookup.findVarHandle(Node.class, "left", Node.class);
+                RIGHT = lookup.findVarHandle(Node.class, "right", Node.class);
+            } catch(ReflectiveOperationException e){
+                throw new ExceptionInInitializerError(e);
+            }
+        }
+
+        private E el;
+        private volatile Node<E> left;
+        private volatile Node<E> right;
+
+        Node(E el){
+            this.el = el;
+        }
+
+        /**
+         * Clears the element of a node that has just been popped by the calling thread.
+         *
+         * @return the element the node held
+         */
+        E clear(){
+            E e = el;
+            el = null;
+            return e;
+        }
+    }
+}
@@ -5,20 +5,94 @@
  */
 
 package io.hohichh;
+import io.hohichh.CustomLinkedListMetrics.Operation;
+
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.ListIterator;
 import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.RecursiveTask;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 /**
  * A custom implementation of a doubly-linked list.
  * This class provides basic linked list operations such as adding, getting, and removing elements.
+ * <p>
+ * The iterators and spliterators returned by this list walk the node chain directly, so a full traversal
+ * takes linear time. They are fail-fast: if the list is structurally modified other than through
+ * the iterator itself, they throw a {@link ConcurrentModificationException}.
+ * <p>
+ * {@link #snapshot()} hands out an immutable view that shares the node chain with this list.
+ * Adding and removing at either end never touches the nodes a snapshot can see, so it stays cheap.
+ * Any other change first gives this list a private copy of its chain, once per snapshot taken.
+ * <p>
+ * Usage metrics are off by default and can be turned on with {@link #enableMetrics()}.
  *
  * @param <E> the type of elements held in this collection
  */
-public class CustomLinkedList<E> {
+public class CustomLinkedList<E> implements Iterable<E> {
     private int size;
+    /** The number of structural modifications, used to make iterators fail-fast. */
+    private int modCount;
 
     private CustomNode<E> head;
     private CustomNode<E> tail;
 
+    /** The node most recently resolved by index, used as a third starting point for index walks. */
+    private CustomNode<E> finger;
+    private int fingerIndex;
+
+    private final int poolCapacity;
+    private CustomNode<E> pool;
+    private int poolSize;
+    private long allocatedNodes;
+
+    /** Chains of at most this many nodes are sorted or visited sequentially by the parallel operations. */
+    private static final int PARALLEL_THRESHOLD = 1 << 13;
+
+    /** Whether the current node chain is visible to a snapshot and must be copied before it is changed. */
+    private boolean shared;
+
+    /**
+     * The number of nodes removed from the ends while the chain is shared. They are left linked,
+     * so the outer links of the first and last node may still lead to them until the chain is copied.
+     */
+    private int detached;
+
+    /** Usage metrics, or {@code null} while they are disabled. */
+    private CustomLinkedListMetrics metrics;
+
+    /**
+     * Constructs an empty list without a node pool.
+     */
+    public CustomLinkedList(){
+        this(0);
+    }
+
+    /**
+     * Constructs an empty list that keeps up to {@code poolCapacity} removed nodes
+     * and reuses them for later insertions instead of allocating new ones.
+     *
+     * @param poolCapacity the maximum number of spare nodes kept by this list
+     * @throws IllegalArgumentException if poolCapacity is negative
+     */
+    public CustomLinkedList(int poolCapacity){
+        if(poolCapacity < 0){
+            throw new IllegalArgumentException("Pool capacity must not be negative: " + poolCapacity);
+        }
+        this.poolCapacity = poolCapacity;
+    }
+
     /**
      * Returns the number of elements in this list.
      *
@@ -34,7 +108,10 @@ public class CustomLinkedList<E> {
      * @param e the element to add
      */
     public void addFirst(E e){
-        CustomNode<E> newNode = new CustomNode<>(e);
+        if(shared && head != null && head.getPrev() != null){
+            unshare();
+        }
+        CustomNode<E> newNode = newNode(e);
         if(head == null){
             head = tail = newNode;
         } else{
@@ -42,7 +119,13 @@ public class CustomLinkedList<E> {
             head.setPrev(newNode);
             head = newNode;
         }
+        fingerIndex++;
         size++;
+        modCount++;
+        if(metrics != null){
+            metrics.record(Operation.ADD_FIRST);
+            metrics.recordSize(size);
+        }
     }
 
     /**
@@ -51,7 +134,10 @@ public class CustomLinkedList<E> {
      * @param e the element to add
      */
     public void addLast(E e){
-        CustomNode<E> newNode = new CustomNode<>(e);
+        if(shared && tail != null && tail.getNext() != null){
+            unshare();
+        }
+        CustomNode<E> newNode = newNode(e);
         if(tail == null){
             head = tail = newNode;
         } else{
@@ -60,6 +146,11 @@ public class CustomLinkedList<E> {
             tail = newNode;
         }
         size++;
+        modCount++;
+        if(metrics != null){
+            metrics.record(Operation.ADD_LAST);
+            metrics.recordSize(size);
+        }
     }
 
     /**
@@ -78,15 +169,11 @@ public class CustomLinkedList<E> {
         } else if(index == 0){
             addFirst(e);
         } else{
-            CustomNode<E> newNode = new CustomNode<>(e);
-            CustomNode<E> currNode = getNodeByIndex(index);
-            CustomNode<E> prevCurr = currNode.getPrev();
-            currNode.setPrev(newNode);
-            newNode.setNext(currNode);
-
-            prevCurr.setNext(newNode);
-            newNode.setPrev(prevCurr);
-            size++;
+            unshare();
+            CustomNode<E> succ = getNodeByIndex(index, Operation.ADD);
+            linkBefore(e, succ);
+            finger = succ;
+            fingerIndex = index + 1;
         }
 
     }
@@ -125,11 +212,15 @@ public class CustomLinkedList<E> {
      * @throws IndexOutOfBoundsException if the index is out of range (index < 0 || index >= size)
      */
     public E get(int index){
-        return getNodeByIndex(index).getEl();
+        if(metrics != null){
+            metrics.record(Operation.GET);
+        }
+        return getNodeByIndex(index, Operation.GET).getEl();
     }
 
     /**
      * Removes and returns the first element from this list.
+     * While a snapshot shares the chain, the head just moves forward and the old node stays linked.
      *
      * @return the first element from this list
      * @throws NoSuchElementException if this list is empty
@@ -138,22 +229,36 @@ public class CustomLinkedList<E> {
         if(head == null){
             throw new NoSuchElementException();
         }
-        E headEl = head.getEl();
-        CustomNode<E> newHead = head.getNext();
+        CustomNode<E> oldHead = head;
+        E headEl = oldHead.getEl();
+        CustomNode<E> newHead = oldHead.getNext();
 
-        head.setNext(null);
         head = newHead;
         if(head == null){
             tail = null;
-        } else{
+        } else if(!shared){
             newHead.setPrev(null);
         }
+        if(finger == oldHead){
+            finger = null;
+        }
+        fingerIndex--;
         size--;
+        modCount++;
+        if(shared){
+            detachShared();
+        } else{
+            recycle(oldHead);
+        }
+        if(metrics != null){
+            metrics.record(Operation.REMOVE_FIRST);
+        }
         return headEl;
     }
 
     /**
      * Removes and returns the last element from this list.
+     * While a snapshot shares the chain, the tail just moves backward and the old node stays linked.
      *
      * @return the last element from this list
      * @throws NoSuchElementException if this list is empty
@@ -162,17 +267,29 @@ public class CustomLinkedList<E> {
         if(tail == null){
             throw new NoSuchElementException();
         }
-        E tailEl = tail.getEl();
-        CustomNode<E> newTail = tail.getPrev();
+        CustomNode<E> oldTail = tail;
+        E tailEl = oldTail.getEl();
+        CustomNode<E> newTail = oldTail.getPrev();
 
-        tail.setPrev(null);
         tail = newTail;
         if(tail == null){
             head = null;
-        } else{
+        } else if(!shared){
             newTail.setNext(null);
         }
+        if(finger == oldTail){
+            finger = null;
+        }
         size--;
+        modCount++;
+        if(shared){
+            detachShared();
+        } else{
+            recycle(oldTail);
+        }
+        if(metrics != null){
+            metrics.record(Operation.REMOVE_LAST);
+        }
         return tailEl;
     }
 
@@ -192,17 +309,842 @@ public class CustomLinkedList<E> {
         } else if(index == 0){
             return removeFirst();
         } else{
-            CustomNode<E> curr = getNodeByIndex(index);
-            E el = curr.getEl();
-            CustomNode<E> prevCurr = curr.getPrev();
-            CustomNode<E> nextCurr = curr.getNext();
+            unshare();
+            CustomNode<E> node = getNodeByIndex(index, Operation.REMOVE);
+            CustomNode<E> nextNode = node.getNext();
+            E el = unlink(node);
+            finger = nextNode;
+            fingerIndex = index;
+            return el;
+        }
+    }
 
-            prevCurr.setNext(nextCurr);
-            nextCurr.setPrev(prevCurr);
-            curr = null;
+    /**
+     * Returns the index of the first occurrence of the specified element in this list,
+     * walking the node chain once from the head.
+     *
+     * @param o the element to search for, may be {@code null}
+     * @return the index of the first occurrence, or -1 if this list does not contain the element
+     */
+    public int indexOf(Object o){
+        CustomNode<E> p = head;
+        for(int index = 0; index < size; index++){
+            if(Objects.equals(o, p.getEl())){
+                return index;
+            }
+            p = p.getNext();
+        }
+        return -1;
+    }
 
-            size--;
-            return el;
+    /**
+     * Returns the index of the last occurrence of the specified element in this list,
+     * walking the node chain once from the tail.
+     *
+     * @param o the element to search for, may be {@code null}
+     * @return the index of the last occurrence, or -1 if this list does not contain the element
+     */
+    public int lastIndexOf(Object o){
+        CustomNode<E> p = tail;
+        for(int index = size - 1; index >= 0; index--){
+            if(Objects.equals(o, p.getEl())){
+                return index;
+            }
+            p = p.getPrev();
+        }
+        return -1;
+    }
+
+    /**
+     * Returns {@code true} if this list contains the specified element.
+     *
+     * @param o the element to search for, may be {@code null}
+     * @return {@code true} if this list contains the element
+     */
+    public boolean contains(Object o){
+        return indexOf(o) >= 0;
+    }
+
+    /**
+     * Removes the first occurrence of the specified element from this list, found by a single walk from the head.
+     *
+     * @param o the element to remove, may be {@code null}
+     * @return {@code true} if this list contained the element
+     */
+    public boolean removeFirstOccurrence(Object o){
+        CustomNode<E> p = head;
+        for(int index = 0; index < size; index++){
+            if(Objects.equals(o, p.getEl())){
+                unlinkAt(p, index);
+                return true;
+            }
+            p = p.getNext();
+        }
+        return false;
+    }
+
+    /**
+     * Removes all elements of this list that satisfy the predicate, in a single walk from the head.
+     * The predicate is called once per element, in order.
+     *
+     * @param filter the predicate selecting the elements to remove
+     * @return {@code true} if any element was removed
+     */
+    public boolean removeIf(Predicate<? super E> filter){
+        Objects.requireNonNull(filter);
+        int index = 0;
+        CustomNode<E> p = head;
+        while(index < size && !filter.test(p.getEl())){
+            p = p.getNext();
+            index++;
+        }
+        if(index == size){
+            return false;
+        }
+        if(unshare()){
+            p = getNodeByIndex(index);
+        }
+        boolean matched = true;
+        while(p != null){
+            CustomNode<E> next = p.getNext();
+            if(matched || filter.test(p.getEl())){
+                unlink(p);
+            }
+            matched = false;
+            p = next;
+        }
+        return true;
+    }
+
+    /**
+     * Appends all elements of the specified collection to the end of this list, in the order
+     * they are returned by its iterator. The new nodes are chained first and then linked
+     * to the tail in a single step.
+     *
+     * @param c the collection containing the elements to add
+     * @return {@code true} if this list changed as a result of the call
+     */
+    public boolean addAll(Collection<? extends E> c){
+        CustomNode<E> first = null;
+        CustomNode<E> last = null;
+        int count = 0;
+        for(E e : c){
+            CustomNode<E> node = newNode(e);
+            if(first == null){
+                first = node;
+            } else{
+                last.setNext(node);
+                node.setPrev(last);
+            }
+            last = node;
+            count++;
+        }
+        if(count == 0){
+            return false;
+        }
+        linkChain(size, first, last, count);
+        return true;
+    }
+
+    /**
+     * Moves all elements of the other list to the end of this list in constant time.
+     * This list takes over the nodes of the other list, which is left empty.
+     *
+     * @param other the list whose elements are moved
+     * @throws IllegalArgumentException if the other list is this list
+     */
+    public void concat(CustomLinkedList<E> other){
+        splice(size, other);
+    }
+
+    /**
+     * Moves all elements of the other list into this list, starting at the specified position.
+     * This list takes over the nodes of the other list, which is left empty.
+     * Apart from locating the position, the operation takes constant time.
+     *
+     * @param index index at which the first element of the other list is to be inserted
+     * @param other the list whose elements are moved
+     * @throws IndexOutOfBoundsException if the index is out of range (index < 0 || index > size)
+     * @throws IllegalArgumentException if the other list is this list
+     */
+    public void splice(int index, CustomLinkedList<E> other){
+        if(index < 0 || index > size){
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+        }
+        if(other == this){
+            throw new IllegalArgumentException("Cannot splice a list into itself");
+        }
+        if(other.size == 0){
+            return;
+        }
+        other.unshare();
+        if(index < size){
+            unshare();
+        }
+        CustomNode<E> first = other.head;
+        CustomNode<E> last = other.tail;
+        int count = other.size;
+        other.head = other.tail = null;
+        other.finger = null;
+        other.size = 0;
+        other.modCount++;
+        linkChain(index, first, last, count);
+    }
+
+    /**
+     * Splits this list in two at the specified position. This list keeps the elements before
+     * the index and the returned list receives the nodes from the index onwards.
+     * Apart from locating the position, the operation takes constant time.
+     *
+     * @param index index of the first element to move to the returned list
+     * @return a new list holding the elements from the index to the end of this list
+     * @throws IndexOutOfBoundsException if the index is out of range (index < 0 || index > size)
+     */
+    public CustomLinkedList<E> split(int index){
+        if(index < 0 || index > size){
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+        }
+        CustomLinkedList<E> rest = new CustomLinkedList<>(poolCapacity);
+        if(index == size){
+            return rest;
+        }
+        unshare();
+        CustomNode<E> first = getNodeByIndex(index);
+        CustomNode<E> last = first.getPrev();
+        rest.head = first;
+        rest.tail = tail;
+        rest.size = size - index;
+        first.setPrev(null);
+
+        tail = last;
+        if(last == null){
+            head = null;
+        } else{
+            last.setNext(null);
+        }
+        finger = null;
+        size = index;
+        modCount++;
+        return rest;
+    }
+
+    /**
+     * Sorts this list according to the order induced by the comparator.
+     * This is a stable natural merge sort: ascending runs already present in the list are found in one pass
+     * and merged pairwise by relinking the existing nodes, so no node is allocated and an already sorted list
+     * is handled in linear time.
+     * <p>
+     * If the comparator throws, the partly merged runs are linked back into one chain before the exception
+     * is rethrown, so the list keeps all of its elements in an unspecified order.
+     *
+     * @param c the comparator used to compare elements, or {@code null} for natural ordering
+     * @throws ClassCastException if c is null and the elements are not mutually comparable
+     */
+    public void sort(Comparator<? super E> c){
+        if(size < 2){
+            return;
+        }
+        unshare();
+        try{
+            relinkSorted(sortChain(head, comparator(c)));
+        } catch(SortFailure f){
+            relinkSorted(f.chain());
+            throw rethrow(f.getCause());
+        }
+    }
+
+    /**
+     * Sorts this list like {@link #sort}, using the common {@link ForkJoinPool}. The chain is cut into halves
+     * until the pieces are small enough, the pieces are sorted in parallel and then merged back pairwise.
+     * Small lists are sorted sequentially.
+     *
+     * @param c the comparator used to compare elements, or {@code null} for natural ordering
+     * @throws ClassCastException if c is null and the elements are not mutually comparable
+     */
+    public void parallelSort(Comparator<? super E> c){
+        if(size <= PARALLEL_THRESHOLD || ForkJoinPool.getCommonPoolParallelism() < 2){
+            sort(c);
+            return;
+        }
+        unshare();
+        SortTask<E> task = new SortTask<>(head, size, comparator(c));
+        relinkSorted(ForkJoinPool.commonPool().invoke(task));
+        if(task.failure != null){
+            throw rethrow(task.failure);
+        }
+    }
+
+    /**
+     * Performs the action for each element of this list on the common {@link ForkJoinPool}.
+     * The chain is walked once to cut it into segments, which are then visited in parallel.
+     * The order in which elements are visited is not defined, and the action must be safe
+     * to call from several threads at once.
+     *
+     * @param action the action to perform on each element
+     * @throws ConcurrentModificationException if the list is structurally modified during the traversal
+     */
+    public void parallelForEach(Consumer<? super E> action){
+        Objects.requireNonNull(action);
+        int expectedModCount = modCount;
+        int segmentSize = Math.max(PARALLEL_THRESHOLD, size / (ForkJoinPool.getCommonPoolParallelism() << 2));
+        int segments = (size + segmentSize - 1) / segmentSize;
+        if(segments < 2){
+            CustomNode<E> p = head;
+            for(int i = size; i > 0 && modCount == expectedModCount; i--){
+                action.accept(p.getEl());
+                p = p.getNext();
+            }
+        } else{
+            CustomNode<E>[] starts = CustomNode.newArray(segments);
+            CustomNode<E> p = head;
+            for(int i = 0; i < size; i++){
+                if(i % segmentSize == 0){
+                    starts[i / segmentSize] = p;
+                }
+                p = p.getNext();
+            }
+            ForkJoinPool.commonPool().invoke(new ForEachTask<>(starts, 0, segments, segmentSize, size, action));
+        }
+        if(modCount != expectedModCount){
+            throw new ConcurrentModificationException();
+        }
+    }
+
+    /**
+     * Returns an immutable view of the current contents of this list in constant time.
+     * The view shares its nodes with this list and is not affected by later changes to it.
+     * <p>
+     * Adding or removing at either end of this list leaves the shared nodes alone: a removal only moves
+     * the head or tail past the node and keeps it linked for the snapshots. The first other change
+     * after a snapshot copies the whole node chain and so takes O(n) time. Repeated snapshots between
+     * such changes cost one copy in total instead of one per reader. A long run of end removals
+     * also copies the chain once the removed nodes outnumber the remaining ones, so that
+     * this list does not keep them reachable after the snapshots are gone.
+     *
+     * @return a snapshot of this list
+     */
+    public CustomLinkedListSnapshot<E> snapshot(){
+        if(size > 0){
+            shared = true;
+        }
+        return new CustomLinkedListSnapshot<>(head, tail, size);
+    }
+
+    /**
+     * Returns an iterator over the elements in this list in proper sequence.
+     *
+     * @return an iterator over the elements in this list
+     */
+    @Override
+    public Iterator<E> iterator(){
+        return new ListItr(0);
+    }
+
+    /**
+     * Returns a list iterator over the elements in this list, starting at the beginning of the list.
+     *
+     * @return a list iterator over the elements in this list
+     */
+    public ListIterator<E> listIterator(){
+        return new ListItr(0);
+    }
+
+    /**
+     * Returns a list iterator over the elements in this list, starting at the specified position.
+     * The iterator supports {@code set}, {@code add} and {@code remove} at the cursor in constant time.
+     *
+     * @param index index of the first element to be returned by {@code next}
+     * @return a list iterator over the elements in this list
+     * @throws IndexOutOfBoundsException if the index is out of range (index < 0 || index > size)
+     */
+    public ListIterator<E> listIterator(int index){
+        if(index < 0 || index > size){
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+        }
+        return new ListItr(index);
+    }
+
+    /**
+     * Creates a late-binding, fail-fast spliterator over the elements in this list.
+     * It reports {@link Spliterator#SIZED}, {@link Spliterator#SUBSIZED} and {@link Spliterator#ORDERED}.
+     *
+     * @return a spliterator over the elements in this list
+     */
+    @Override
+    public Spliterator<E> spliterator(){
+        return new NodeSpliterator();
+    }
+
+    /**
+     * Returns a sequential stream with this list as its source.
+     *
+     * @return a sequential stream over the elements in this list
+     */
+    public Stream<E> stream(){
+        return StreamSupport.stream(spliterator(), false);
+    }
+
+    /**
+     * Returns a possibly parallel stream with this list as its source.
+     *
+     * @return a possibly parallel stream over the elements in this list
+     */
+    public Stream<E> parallelStream(){
+        return StreamSupport.stream(spliterator(), true);
+    }
+
+    /**
+     * Replaces the node chain with a private copy if a snapshot may still see it.
+     * Must be called before any change other than adding or removing at either end,
+     * and before resolving the nodes the change will touch. The finger is dropped
+     * and open iterators are invalidated, since the nodes they hold are no longer part of this list.
+     *
+     * @return {@code true} if the chain was copied
+     */
+    private boolean unshare(){
+        if(!shared){
+            return false;
+        }
+        shared = false;
+        CustomNode<E> copyHead = null;
+        CustomNode<E> copyTail = null;
+        CustomNode<E> p = head;
+        for(int i = 0; i < size; i++){
+            CustomNode<E> node = newNode(p.getEl());
+            if(copyHead == null){
+                copyHead = node;
+            } else{
+                copyTail.setNext(node);
+                node.setPrev(copyTail);
+            }
+            copyTail = node;
+            p = p.getNext();
+        }
+        head = copyHead;
+        tail = copyTail;
+        detached = 0;
+        finger = null;
+        modCount++;
+        return true;
+    }
+
+    /**
+     * Accounts for a node just removed from an end of the shared chain. The removed nodes stay reachable
+     * from this list through the outer links of its ends, so once there are more of them than elements
+     * the chain is copied to let them go, which keeps removals at the ends amortized constant time.
+     * An emptied list no longer refers to any node and stops sharing.
+     */
+    private void detachShared(){
+        if(size == 0){
+            shared = false;
+            detached = 0;
+        } else if(++detached > size){
+            unshare();
+        }
+    }
+
+    /**
+     * Installs a chain linked through next references only as the node chain of this list:
+     * restores the previous references and the tail, drops the finger and invalidates iterators.
+     *
+     * @param first the first node of the chain, which must hold exactly the nodes of this list
+     */
+    private void relinkSorted(CustomNode<E> first){
+        head = first;
+        CustomNode<E> prev = null;
+        for(CustomNode<E> p = first; p != null; p = p.getNext()){
+            p.setPrev(prev);
+            prev = p;
+        }
+        tail = prev;
+        finger = null;
+        modCount++;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <E> Comparator<? super E> comparator(Comparator<? super E> c){
+        return (c != null) ? c : (Comparator<? super E>) Comparator.naturalOrder();
+    }
+
+    /**
+     * Returns an exception thrown by a comparator so that the caller can rethrow it,
+     * or throws it right away if it is an error. Comparators cannot throw checked exceptions.
+     *
+     * @param t the exception thrown by the comparator
+     * @return the exception as an unchecked exception
+     */
+    private static RuntimeException rethrow(Throwable t){
+        if(t instanceof Error error){
+            throw error;
+        }
+        return (RuntimeException) t;
+    }
+
+    /**
+     * Sorts a chain of nodes linked through their next references and ending with {@code null}.
+     * Each ascending run is merged into an array of bins, where bin {@code i} holds a sorted chain of
+     * about {@code 2^i} runs, like a binary counter; the bins are merged together at the end.
+     * Later bins always hold earlier parts of the chain, which keeps the sort stable.
+     * Only next references are maintained.
+     *
+     * @param first the first node of the chain
+     * @param c the comparator used to compare elements
+     * @return the first node of the sorted chain
+     * @throws SortFailure if the comparator throws, carrying all nodes of the chain linked in some order
+     */
+    private static <E> CustomNode<E> sortChain(CustomNode<E> first, Comparator<? super E> c){
+        CustomNode<E>[] bins = CustomNode.newArray(32);
+        int maxBin = 0;
+        CustomNode<E> p = first;
+        CustomNode<E> run = null;
+        try{
+            while(p != null){
+                run = p;
+                CustomNode<E> runEnd = p;
+                p = p.getNext();
+                while(p != null && c.compare(runEnd.getEl(), p.getEl()) <= 0){
+                    runEnd = p;
+                    p = p.getNext();
+                }
+                runEnd.setNext(null);
+
+                int i = 0;
+                while(bins[i] != null){
+                    CustomNode<E> bin = bins[i];
+                    bins[i++] = null;
+                    run = mergeChains(bin, run, c);
+                }
+                bins[i] = run;
+                run = null;
+                maxBin = Math.max(maxBin, i);
+            }
+            for(int i = 0; i <= maxBin; i++){
+                if(bins[i] != null){
+                    CustomNode<E> bin = bins[i];
+                    bins[i] = null;
+                    run = (run == null) ? bin : mergeChains(bin, run, c);
+                }
+            }
+            return run;
+        } catch(SortFailure f){
+            CustomNode<E> rest = concatChains(f.chain(), p);
+            for(CustomNode<E> bin : bins){
+                rest = concatChains(bin, rest);
+            }
+            throw new SortFailure(rest, f.getCause());
+        } catch(RuntimeException | Error e){
+            // Thrown while scanning a run that is still linked to the rest of the chain.
+            CustomNode<E> rest = run;
+            for(CustomNode<E> bin : bins){
+                rest = concatChains(bin, rest);
+            }
+            throw new SortFailure(rest, e);
+        }
+    }
+
+    /**
+     * Merges two sorted chains linked through their next references. On ties the node of
+     * the first chain comes first, so the first chain must hold the earlier elements.
+     *
+     * @param a the first node of the chain holding the earlier elements
+     * @param b the first node of the chain holding the later elements
+     * @param c the comparator used to compare elements
+     * @return the first node of the merged chain
+     * @throws SortFailure if the comparator throws, carrying the merged part followed by the rest of both chains
+     */
+    private static <E> CustomNode<E> mergeChains(CustomNode<E> a, CustomNode<E> b, Comparator<? super E> c){
+        CustomNode<E> first = null;
+        CustomNode<E> last = null;
+        try{
+            if(c.compare(a.getEl(), b.getEl()) <= 0){
+                first = last = a;
+                a = a.getNext();
+            } else{
+                first = last = b;
+                b = b.getNext();
+            }
+            while(a != null && b != null){
+                if(c.compare(a.getEl(), b.getEl()) <= 0){
+                    last.setNext(a);
+                    last = a;
+                    a = a.getNext();
+                } else{
+                    last.setNext(b);
+                    last = b;
+                    b = b.getNext();
+                }
+            }
+        } catch(RuntimeException | Error e){
+            CustomNode<E> rest = concatChains(a, b);
+            if(last == null){
+                throw new SortFailure(rest, e);
+            }
+            last.setNext(rest);
+            throw new SortFailure(first, e);
+        }
+        last.setNext((a != null) ? a : b);
+        return first;
+    }
+
+    /**
+     * Links the second chain after the last node of the first one. Both chains are linked
+     * through their next references and end with {@code null}.
+     *
+     * @param a the first node of the first chain, may be {@code null}
+     * @param b the first node of the second chain, may be {@code null}
+     * @return the first node of the joined chain
+     */
+    private static <E> CustomNode<E> concatChains(CustomNode<E> a, CustomNode<E> b){
+        if(a == null){
+            return b;
+        }
+        CustomNode<E> last = a;
+        while(last.getNext() != null){
+            last = last.getNext();
+        }
+        last.setNext(b);
+        return a;
+    }
+
+    /**
+     * Unlinks a node found by a walk, first moving to the copy of the chain if a snapshot shares it.
+     *
+     * @param node the node to unlink
+     * @param index the index of the node
+     * @return the element stored in the node
+     */
+    private E unlinkAt(CustomNode<E> node, int index){
+        if(unshare()){
+            node = getNodeByIndex(index);
+        }
+        return unlink(node);
+    }
+
+    /**
+     * Links a chain of nodes into this list so that its first node ends up at the specified position.
+     *
+     * @param index the position of the first node of the chain, between 0 and size inclusive
+     * @param first the first node of the chain
+     * @param last the last node of the chain
+     * @param count the number of nodes in the chain
+     */
+    private void linkChain(int index, CustomNode<E> first, CustomNode<E> last, int count){
+        if(index == size){
+            if(shared && tail != null && tail.getNext() != null){
+                unshare();
+            }
+            if(tail == null){
+                head = first;
+            } else{
+                tail.setNext(first);
+                first.setPrev(tail);
+            }
+            tail = last;
+        } else{
+            CustomNode<E> succ = getNodeByIndex(index);
+            CustomNode<E> pred = succ.getPrev();
+            if(pred == null){
+                head = first;
+            } else{
+                pred.setNext(first);
+                first.setPrev(pred);
+            }
+            last.setNext(succ);
+            succ.setPrev(last);
+            finger = succ;
+            fingerIndex = index + count;
+        }
+        size += count;
+        modCount++;
+        if(metrics != null){
+            metrics.recordSize(size);
+        }
+    }
+
+    /**
+     * Inserts the element in front of the given node of this list.
+     * The finger is dropped because the index of the node is not known here.
+     *
+     * @param e the element to insert
+     * @param succ the node that will follow the new element
+     */
+    private void linkBefore(E e, CustomNode<E> succ){
+        CustomNode<E> prevSucc = succ.getPrev();
+        if(prevSucc == null){
+            addFirst(e);
+            return;
+        }
+        CustomNode<E> newNode = newNode(e);
+        finger = null;
+        succ.setPrev(newNode);
+        newNode.setNext(succ);
+
+        prevSucc.setNext(newNode);
+        newNode.setPrev(prevSucc);
+        size++;
+        modCount++;
+        if(metrics != null){
+            metrics.record(Operation.ADD);
+            metrics.recordSize(size);
+        }
+    }
+
+    /**
+     * Unlinks the given node from this list and returns its element.
+     * The finger is dropped because the index of the node is not known here.
+     *
+     * @param node the node to unlink
+     * @return the element stored in the node
+     */
+    private E unlink(CustomNode<E> node){
+        if(node == head){
+            return removeFirst();
+        } else if(node == tail){
+            return removeLast();
+        }
+        E el = node.getEl();
+        CustomNode<E> prevNode = node.getPrev();
+        CustomNode<E> nextNode = node.getNext();
+        finger = null;
+
+        prevNode.setNext(nextNode);
+        nextNode.setPrev(prevNode);
+        recycle(node);
+
+        size--;
+        modCount++;
+        if(metrics != null){
+            metrics.record(Operation.REMOVE);
+        }
+        return el;
+    }
+
+    /**
+     * Inserts the element at the beginning of this list and returns its node, for collaborators
+     * in this package that keep references to nodes, such as {@link CustomLinkedListCache}.
+     * Lists used this way must never be snapshotted, since a copy of the chain would
+     * leave the references pointing at nodes that are no longer part of the list.
+     *
+     * @param e the element to add
+     * @return the node holding the element
+     */
+    CustomNode<E> linkFirstNode(E e){
+        addFirst(e);
+        return head;
+    }
+
+    /**
+     * Returns the last node of this list.
+     *
+     * @return the last node, or {@code null} if this list is empty
+     */
+    CustomNode<E> lastNode(){
+        return tail;
+    }
+
+    /**
+     * Removes the given node of this list in constant time. The node may be reused by the pool afterwards.
+     *
+     * @param node the node to remove
+     * @return the element stored in the node
+     */
+    E removeNode(CustomNode<E> node){
+        return unlink(node);
+    }
+
+    /**
+     * Moves the given node of this list to the beginning in constant time, keeping the node itself.
+     *
+     * @param node the node to move
+     */
+    void moveToFront(CustomNode<E> node){
+        if(node == head){
+            return;
+        }
+        CustomNode<E> prevNode = node.getPrev();
+        CustomNode<E> nextNode = node.getNext();
+        prevNode.setNext(nextNode);
+        if(nextNode == null){
+            tail = prevNode;
+        } else{
+            nextNode.setPrev(prevNode);
+        }
+        node.setPrev(null);
+        node.setNext(head);
+        head.setPrev(node);
+        head = node;
+        finger = null;
+        modCount++;
+    }
+
+    /**
+     * Turns on usage metrics for this list, or returns the existing ones if they are already on.
+     * Until this is called, the list keeps no metrics and pays a single null check per operation.
+     *
+     * @return the metrics of this list
+     */
+    public CustomLinkedListMetrics enableMetrics(){
+        if(metrics == null){
+            metrics = new CustomLinkedListMetrics();
+            metrics.recordSize(size);
+        }
+        return metrics;
+    }
+
+    /**
+     * Returns the usage metrics of this list.
+     *
+     * @return the metrics, or {@code null} if {@link #enableMetrics()} has not been called
+     */
+    public CustomLinkedListMetrics metrics(){
+        return metrics;
+    }
+
+    /**
+     * Returns the number of nodes this list has allocated since it was created.
+     * Nodes taken from the pool are not counted, so with a large enough pool
+     * a steady stream of matching add and remove calls leaves this value unchanged.
+     *
+     * @return the number of allocated nodes
+     */
+    public long allocatedNodes(){
+        return allocatedNodes;
+    }
+
+    /**
+     * Returns a node holding the specified element, taking it from the pool when one is available.
+     *
+     * @param e the element to store in the node
+     * @return an unlinked node holding the element
+     */
+    private CustomNode<E> newNode(E e){
+        CustomNode<E> node = pool;
+        if(node == null){
+            allocatedNodes++;
+            return new CustomNode<>(e);
+        }
+        pool = node.getNext();
+        poolSize--;
+        node.setNext(null);
+        node.setEl(e);
+        return node;
+    }
+
+    /**
+     * Clears a node that has been unlinked from the list and puts it into the pool if there is room.
+     * Pooled nodes are chained through their next reference.
+     *
+     * @param node the unlinked node
+     */
+    private void recycle(CustomNode<E> node){
+        node.setEl(null);
+        node.setPrev(null);
+        if(poolSize < poolCapacity){
+            node.setNext(pool);
+            pool = node;
+            poolSize++;
+        } else{
+            node.setNext(null);
         }
     }
 
@@ -210,31 +1152,399 @@ public class CustomLinkedList<E> {
      * Returns the node at the specified element index.
      * This method contains an optimization: it traverses from the beginning of the list
      * if the index is in the first half, and from the end of the list if it's in the second half.
+     * It also remembers the last resolved node (the finger) and starts from it instead
+     * when it is closer, so sequential or nearby accesses take constant time.
      *
      * @param index the index of the node to retrieve
      * @return the node at the specified index
      * @throws IndexOutOfBoundsException if the index is out of range (index < 0 || index >= size)
      */
     private CustomNode<E> getNodeByIndex(int index){
+        return getNodeByIndex(index, null);
+    }
+
+    /**
+     * Returns the node at the specified element index like {@link #getNodeByIndex(int)}
+     * and records the length of the walk under the operation if metrics are enabled.
+     *
+     * @param index the index of the node to retrieve
+     * @param op the positional operation the walk is made for, or {@code null} to leave it unrecorded
+     * @return the node at the specified index
+     * @throws IndexOutOfBoundsException if the index is out of range (index < 0 || index >= size)
+     */
+    private CustomNode<E> getNodeByIndex(int index, Operation op){
         if(index < 0 || index >= size){
             throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
         }
         CustomNode<E> search;
-        if(index < (size >> 1)){ // (size >> 1) is a faster way of doing size / 2
+        int steps;
+        int fingerDistance = (finger == null) ? Integer.MAX_VALUE : Math.abs(index - fingerIndex);
+        if(fingerDistance < Math.min(index, size - 1 - index)){
+            steps = fingerDistance;
+            search = finger;
+            for(int i = fingerIndex; i < index; i++){
+                search = search.getNext();
+            }
+            for(int i = fingerIndex; i > index; i--){
+                search = search.getPrev();
+            }
+        }
+        else if(index < (size >> 1)){ // (size >> 1) is a faster way of doing size / 2
+            steps = index;
             search = head;
             for(int i = 0; i < index; i++){
                 search = search.getNext();
             }
         }
         else{
+            steps = size - 1 - index;
             search = tail;
             for(int i = size - 1; i > index; i--){
                 search = search.getPrev();
             }
         }
+        finger = search;
+        fingerIndex = index;
+        if(metrics != null && op != null){
+            metrics.recordTraversal(op, index, size, steps);
+        }
         return search;
     }
 
+    /**
+     * Thrown through the chain sort when the comparator fails. It carries every node of the chain
+     * being sorted, linked through their next references in no particular order, so that the list
+     * can relink itself before the comparator's exception is rethrown. It never leaves this class.
+     */
+    @SuppressWarnings("serial")
+    private static final class SortFailure extends RuntimeException {
+        private final transient CustomNode<?> first;
+
+        SortFailure(CustomNode<?> first, Throwable cause){
+            super(null, cause, false, false);
+            this.first = first;
+        }
+
+        @SuppressWarnings("unchecked")
+        <E> CustomNode<E> chain(){
+            return (CustomNode<E>) first;
+        }
+    }
+
+    /**
+     * Sorts a chain of a known length by cutting it in half, sorting the halves in parallel and merging them.
+     * A task whose comparator fails returns all of its nodes as one unsorted chain and records the exception,
+     * so that the halves can still be joined and the list relinked.
+     * Tasks only live for one call of {@link #parallelSort} and are never serialized.
+     * @param <E> the type of elements in the chain
+     */
+    @SuppressWarnings("serial")
+    private static final class SortTask<E> extends RecursiveTask<CustomNode<E>> {
+        private final CustomNode<E> first;
+        private final int length;
+        private final Comparator<? super E> c;
+        /** The exception thrown by the comparator, or {@code null} if the returned chain is sorted. */
+        private Throwable failure;
+
+        SortTask(CustomNode<E> first, int length, Comparator<? super E> c){
+            this.first = first;
+            this.length = length;
+            this.c = c;
+        }
+
+        @Override
+        protected CustomNode<E> compute(){
+            try{
+                if(length <= PARALLEL_THRESHOLD){
+                    return sortChain(first, c);
+                }
+                int half = length >>> 1;
+                CustomNode<E> leftLast = first;
+                for(int i = 1; i < half; i++){
+                    leftLast = leftLast.getNext();
+                }
+                CustomNode<E> second = leftLast.getNext();
+                leftLast.setNext(null);
+
+                SortTask<E> left = new SortTask<>(first, half, c);
+                left.fork();
+                SortTask<E> right = new SortTask<>(second, length - half, c);
+                CustomNode<E> rightChain = right.compute();
+                CustomNode<E> leftChain = left.join();
+                failure = (left.failure != null) ? left.failure : right.failure;
+                if(failure != null){
+                    return concatChains(leftChain, rightChain);
+                }
+                return mergeChains(leftChain, rightChain, c);
+            } catch(SortFailure f){
+                failure = f.getCause();
+                return f.chain();
+            }
+        }
+    }
+
+    /**
+     * Visits a range of equally sized segments of the chain, splitting the range while it has more than one segment.
+     * Tasks only live for one call of {@link #parallelForEach} and are never serialized.
+     * @param <E> the type of elements in the chain
+     */
+    @SuppressWarnings("serial")
+    private static final class ForEachTask<E> extends RecursiveAction {
+        private final CustomNode<E>[] starts;
+        private final int from;
+        private final int to;
+        private final int segmentSize;
+        private final int size;
+        private final Consumer<? super E> action;
+
+        ForEachTask(CustomNode<E>[] starts, int from, int to, int segmentSize, int size, Consumer<? super E> action){
+            this.starts = starts;
+            this.from = from;
+            this.to = to;
+            this.segmentSize = segmentSize;
+            this.size = size;
+            this.action = action;
+        }
+
+        @Override
+        protected void compute(){
+            if(to - from > 1){
+                int mid = (from + to) >>> 1;
+                invokeAll(new ForEachTask<>(starts, from, mid, segmentSize, size, action),
+                        new ForEachTask<>(starts, mid, to, segmentSize, size, action));
+                return;
+            }
+            CustomNode<E> p = starts[from];
+            int n = Math.min(segmentSize, size - from * segmentSize);
+            for(int i = 0; i < n && p != null; i++){
+                action.accept(p.getEl());
+                p = p.getNext();
+            }
+        }
+    }
+
+    /**
+     * A list iterator that keeps a reference to the node returned by the next call to {@code next},
+     * so moving, removing, replacing and inserting at the cursor never walk the list.
+     */
+    private final class ListItr implements ListIterator<E> {
+        private CustomNode<E> lastReturned;
+        private int lastReturnedIndex;
+        private CustomNode<E> next;
+        private int nextIndex;
+        private int expectedModCount = modCount;
+
+        ListItr(int index){
+            next = (index == size) ? null : getNodeByIndex(index);
+            nextIndex = index;
+        }
+
+        @Override
+        public boolean hasNext(){
+            return nextIndex < size;
+        }
+
+        @Override
+        public E next(){
+            checkForComodification();
+            if(!hasNext()){
+                throw new NoSuchElementException();
+            }
+            lastReturned = next;
+            lastReturnedIndex = nextIndex;
+            next = next.getNext();
+            nextIndex++;
+            return lastReturned.getEl();
+        }
+
+        @Override
+        public boolean hasPrevious(){
+            return nextIndex > 0;
+        }
+
+        @Override
+        public E previous(){
+            checkForComodification();
+            if(!hasPrevious()){
+                throw new NoSuchElementException();
+            }
+            next = (next == null) ? tail : next.getPrev();
+            lastReturned = next;
+            nextIndex--;
+            lastReturnedIndex = nextIndex;
+            return lastReturned.getEl();
+        }
+
+        @Override
+        public int nextIndex(){
+            return nextIndex;
+        }
+
+        @Override
+        public int previousIndex(){
+            return nextIndex - 1;
+        }
+
+        @Override
+        public void remove(){
+            checkForComodification();
+            if(lastReturned == null){
+                throw new IllegalStateException();
+            }
+            relocateIfUnshared();
+            CustomNode<E> lastNext = lastReturned.getNext();
+            unlink(lastReturned);
+            if(next == lastReturned){
+                next = lastNext;
+            } else{
+                nextIndex--;
+            }
+            lastReturned = null;
+            expectedModCount = modCount;
+        }
+
+        @Override
+        public void set(E e){
+            if(lastReturned == null){
+                throw new IllegalStateException();
+            }
+            checkForComodification();
+            relocateIfUnshared();
+            lastReturned.setEl(e);
+        }
+
+        @Override
+        public void add(E e){
+            checkForComodification();
+            lastReturned = null;
+            if(next == null){
+                addLast(e);
+            } else{
+                relocateIfUnshared();
+                linkBefore(e, next);
+            }
+            nextIndex++;
+            expectedModCount = modCount;
+        }
+
+        @Override
+        public void forEachRemaining(Consumer<? super E> action){
+            Objects.requireNonNull(action);
+            while(modCount == expectedModCount && nextIndex < size){
+                action.accept(next.getEl());
+                lastReturned = next;
+                lastReturnedIndex = nextIndex;
+                next = next.getNext();
+                nextIndex++;
+            }
+            checkForComodification();
+        }
+
+        private void checkForComodification(){
+            if(modCount != expectedModCount){
+                throw new ConcurrentModificationException();
+            }
+        }
+
+        /**
+         * Copies the chain if a snapshot shares it and moves the cursor onto the copied nodes.
+         */
+        private void relocateIfUnshared(){
+            if(unshare()){
+                next = (nextIndex == size) ? null : getNodeByIndex(nextIndex);
+                if(lastReturned != null){
+                    lastReturned = getNodeByIndex(lastReturnedIndex);
+                }
+                expectedModCount = modCount;
+            }
+        }
+    }
+
+    /**
+     * A late-binding spliterator over the node chain. It binds to the list on first use
+     * and splits off prefixes of growing size, copied into arrays, for parallel processing.
+     */
+    private final class NodeSpliterator implements Spliterator<E> {
+        private static final int BATCH_UNIT = 1 << 10;
+        private static final int MAX_BATCH = 1 << 25;
+
+        private CustomNode<E> current;
+        private int est = -1;
+        private int expectedModCount;
+        private int batch;
+
+        private int getEst(){
+            if(est < 0){
+                est = size;
+                expectedModCount = modCount;
+                current = head;
+            }
+            return est;
+        }
+
+        @Override
+        public long estimateSize(){
+            return getEst();
+        }
+
+        @Override
+        public Spliterator<E> trySplit(){
+            int s = getEst();
+            CustomNode<E> p = current;
+            if(s > 1 && p != null){
+                int n = Math.min(batch + BATCH_UNIT, Math.min(s, MAX_BATCH));
+                Object[] a = new Object[n];
+                int j = 0;
+                do{
+                    a[j++] = p.getEl();
+                } while((p = p.getNext()) != null && j < n);
+                current = p;
+                batch = j;
+                est = s - j;
+                return Spliterators.spliterator(a, 0, j, Spliterator.ORDERED);
+            }
+            return null;
+        }
+
+        @Override
+        public void forEachRemaining(Consumer<? super E> action){
+            Objects.requireNonNull(action);
+            int n = getEst();
+            CustomNode<E> p = current;
+            current = null;
+            est = 0;
+            while(p != null && n-- > 0){
+                E e = p.getEl();
+                p = p.getNext();
+                action.accept(e);
+            }
+            if(modCount != expectedModCount){
+                throw new ConcurrentModificationException();
+            }
+        }
+
+        @Override
+        public boolean tryAdvance(Consumer<? super E> action){
+            Objects.requireNonNull(action);
+            if(getEst() > 0 && current != null){
+                est--;
+                E e = current.getEl();
+                current = current.getNext();
+                action.accept(e);
+                if(modCount != expectedModCount){
+                    throw new ConcurrentModificationException();
+                }
+                return true;
+            }
+            return false;
+        }
+
+        @Override
+        public int characteristics(){
+            return Spliterator.ORDERED | Spliterator.SIZED | Spliterator.SUBSIZED;
+        }
+    }
+
     /**
      * Represents a node in the doubly-linked list.
      * Each node contains an element and references to the next and previous nodes.
@@ -254,6 +1564,15 @@ public class CustomLinkedList<E> {
             this.el = el;
         }
 
+        /**
+         * Creates an array of nodes. Generic arrays cannot be created directly,
+         * so this is the one place that needs an unchecked cast.
+         */
+        @SuppressWarnings("unchecked")
+        static <E> CustomNode<E>[] newArray(int length){
+            return (CustomNode<E>[]) new CustomNode<?>[length];
+        }
+
         /**
          * Returns the element stored in this node.
          * @return the element
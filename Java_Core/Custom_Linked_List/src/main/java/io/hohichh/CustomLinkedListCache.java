@@ -0,0 +1,204 @@
+package io.hohichh;
+
+import io.hohichh.CustomLinkedList.CustomNode;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * A bounded key-value cache that pairs a hash index with the node chain of a {@link CustomLinkedList}.
+ * The index maps every key to the node holding its entry, so a hit moves the entry to the front of the
+ * chain and a full cache evicts from the tail, both in constant time, without the {@code remove(int)}
+ * walk a plain map-plus-list pairing would need.
+ * <p>
+ * The chain is kept in recency order, and an {@link AdmissionPolicy} decides whether a new key may
+ * replace the least recently used entry when the cache is full: {@link AdmissionPolicy#lru()} always
+ * admits, while {@link AdmissionPolicy#lfu(int)} and {@link AdmissionPolicy#tinyLfu(int)} keep one-off
+ * keys from pushing out frequently used ones. Hits, misses, evictions and rejected insertions are counted.
+ * <p>
+ * Null keys and values are not permitted. This class is not thread-safe.
+ *
+ * @param <K> the type of keys
+ * @param <V> the type of cached values
+ */
+public class CustomLinkedListCache<K, V> {
+    private final int capacity;
+    private final AdmissionPolicy<K> policy;
+    private final Map<K, CustomNode<Entry<K, V>>> index;
+    /** Entries from the most to the least recently used. */
+    private final CustomLinkedList<Entry<K, V>> order = new CustomLinkedList<>(1);
+
+    private long hits;
+    private long misses;
+    private long evictions;
+    private long rejections;
+
+    /**
+     * Constructs an LRU cache holding at most {@code capacity} entries.
+     *
+     * @param capacity the maximum number of entries
+     * @throws IllegalArgumentException if capacity is not positive
+     */
+    public CustomLinkedListCache(int capacity){
+        this(capacity, AdmissionPolicy.lru());
+    }
+
+    /**
+     * Constructs a cache holding at most {@code capacity} entries that admits new keys
+     * into a full cache according to the policy.
+     *
+     * @param capacity the maximum number of entries
+     * @param policy the admission policy
+     * @throws IllegalArgumentException if capacity is not positive
+     */
+    public CustomLinkedListCache(int capacity, AdmissionPolicy<K> policy){
+        if(capacity <= 0){
+            throw new IllegalArgumentException("Capacity must be positive: " + capacity);
+        }
+        this.capacity = capacity;
+        this.policy = Objects.requireNonNull(policy);
+        this.index = new HashMap<>((int) Math.min((capacity * 4L) / 3 + 1, 1 << 30));
+    }
+
+    /**
+     * Returns the number of cached entries.
+     *
+     * @return the number of cached entries
+     */
+    public int size(){
+        return order.size();
+    }
+
+    /**
+     * Returns the maximum number of entries.
+     *
+     * @return the capacity of this cache
+     */
+    public int capacity(){
+        return capacity;
+    }
+
+    /**
+     * Returns the value cached for the key and marks the entry as most recently used.
+     *
+     * @param key the key to look up
+     * @return the cached value, or {@code null} if the key is not cached
+     */
+    public V get(K key){
+        policy.recordAccess(Objects.requireNonNull(key));
+        CustomNode<Entry<K, V>> node = index.get(key);
+        if(node == null){
+            misses++;
+            return null;
+        }
+        hits++;
+        order.moveToFront(node);
+        return node.getEl().value;
+    }
+
+    /**
+     * Returns whether the key is cached, without counting a hit or changing the order.
+     *
+     * @param key the key to look up
+     * @return {@code true} if the key is cached
+     */
+    public boolean containsKey(K key){
+        return index.containsKey(key);
+    }
+
+    /**
+     * Caches the value for the key and marks the entry as most recently used. If the key is new and
+     * the cache is full, the admission policy decides between evicting the least recently used entry
+     * and dropping the new one.
+     *
+     * @param key the key
+     * @param value the value to cache
+     * @return {@code true} if the value is cached, {@code false} if the policy rejected the key
+     */
+    public boolean put(K key, V value){
+        Objects.requireNonNull(value);
+        policy.recordAccess(Objects.requireNonNull(key));
+        CustomNode<Entry<K, V>> node = index.get(key);
+        if(node != null){
+            node.getEl().value = value;
+            order.moveToFront(node);
+            return true;
+        }
+        if(order.size() == capacity){
+            if(!policy.admit(key, order.lastNode().getEl().key)){
+                rejections++;
+                return false;
+            }
+            evictTail();
+        }
+        index.put(key, order.linkFirstNode(new Entry<>(key, value)));
+        return true;
+    }
+
+    /**
+     * Removes the entry for the key.
+     *
+     * @param key the key
+     * @return the value that was cached, or {@code null} if the key was not cached
+     */
+    public V remove(K key){
+        CustomNode<Entry<K, V>> node = index.remove(key);
+        if(node == null){
+            return null;
+        }
+        return order.removeNode(node).value;
+    }
+
+    /**
+     * Returns the number of lookups that found their key.
+     *
+     * @return the hit count
+     */
+    public long hitCount(){
+        return hits;
+    }
+
+    /**
+     * Returns the number of lookups that did not find their key.
+     *
+     * @return the miss count
+     */
+    public long missCount(){
+        return misses;
+    }
+
+    /**
+     * Returns the number of entries evicted to make room for new ones.
+     *
+     * @return the eviction count
+     */
+    public long evictionCount(){
+        return evictions;
+    }
+
+    /**
+     * Returns the number of new keys the admission policy kept out of the full cache.
+     *
+     * @return the rejection count
+     */
+    public long rejectionCount(){
+        return rejections;
+    }
+
+    private void evictTail(){
+        Entry<K, V> victim = order.removeLast();
+        index.remove(victim.key);
+        evictions++;
+    }
+
+    private static final class Entry<K, V> {
+        private final K key;
+        private V value;
+
+        Entry(K key, V value){
+            this.key = key;
+            this.value = value;
+        }
+    }
+}
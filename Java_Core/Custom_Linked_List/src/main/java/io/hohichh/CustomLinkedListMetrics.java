@@ -0,0 +1,180 @@
+package io.hohichh;
+
+import javax.management.JMException;
+import javax.management.ObjectName;
+import java.lang.management.ManagementFactory;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Usage metrics of a single {@link CustomLinkedList}, created by {@link CustomLinkedList#enableMetrics()}.
+ * <p>
+ * It counts calls of every operation, keeps a log2 histogram of the number of links followed by each
+ * positional get, insertion and removal, and tracks the largest size the list has reached.
+ * Calls of a positional operation that land on either end are counted as the end operation.
+ * The list only updates the metrics from the thread that owns it, but the values may be read from any
+ * thread, for instance through JMX after {@link #registerMBean(String)}. Every walk is also reported as
+ * a {@code io.hohichh.CustomLinkedListTraversal} JFR event when that event is enabled in a recording.
+ * <p>
+ * A list without metrics pays a single null check per operation.
+ */
+public final class CustomLinkedListMetrics implements CustomLinkedListMetricsMXBean {
+
+    /**
+     * The operations counted by the metrics.
+     */
+    public enum Operation {
+        ADD_FIRST, ADD_LAST, ADD, GET, REMOVE_FIRST, REMOVE_LAST, REMOVE;
+
+        private boolean positional(){
+            return this == ADD || this == GET || this == REMOVE;
+        }
+    }
+
+    /** The number of histogram buckets; enough for any walk along an {@code int}-sized list. */
+    static final int BUCKETS = 32;
+
+    private static final Operation[] OPERATIONS = Operation.values();
+
+    private final LongAdder[] counts = new LongAdder[OPERATIONS.length];
+    private final LongAdder[][] traversals = new LongAdder[OPERATIONS.length][];
+    private volatile int highWaterSize;
+
+    CustomLinkedListMetrics(){
+        for(Operation op : OPERATIONS){
+            counts[op.ordinal()] = new LongAdder();
+            if(op.positional()){
+                LongAdder[] histogram = new LongAdder[BUCKETS];
+                for(int i = 0; i < BUCKETS; i++){
+                    histogram[i] = new LongAdder();
+                }
+                traversals[op.ordinal()] = histogram;
+            }
+        }
+    }
+
+    /**
+     * Returns the number of calls of the operation.
+     *
+     * @param op the operation
+     * @return the number of calls
+     */
+    public long count(Operation op){
+        return counts[op.ordinal()].sum();
+    }
+
+    /**
+     * Returns the traversal length histogram of the operation.
+     * Bucket 0 counts walks of zero steps and bucket {@code k} counts walks of {@code 2^(k-1)} to {@code 2^k - 1} steps.
+     *
+     * @param op the operation
+     * @return a copy of the histogram, empty for operations at the ends of the list
+     */
+    public long[] traversalHistogram(Operation op){
+        LongAdder[] histogram = traversals[op.ordinal()];
+        if(histogram == null){
+            return new long[0];
+        }
+        long[] copy = new long[BUCKETS];
+        for(int i = 0; i < BUCKETS; i++){
+            copy[i] = histogram[i].sum();
+        }
+        return copy;
+    }
+
+    @Override
+    public Map<String, Long> getOperationCounts(){
+        Map<String, Long> result = new LinkedHashMap<>();
+        for(Operation op : OPERATIONS){
+            result.put(op.name(), count(op));
+        }
+        return result;
+    }
+
+    @Override
+    public Map<String, long[]> getTraversalHistograms(){
+        Map<String, long[]> result = new LinkedHashMap<>();
+        for(Operation op : OPERATIONS){
+            if(op.positional()){
+                result.put(op.name(), traversalHistogram(op));
+            }
+        }
+        return result;
+    }
+
+    @Override
+    public int getHighWaterSize(){
+        return highWaterSize;
+    }
+
+    @Override
+    public void reset(){
+        for(Operation op : OPERATIONS){
+            counts[op.ordinal()].reset();
+            LongAdder[] histogram = traversals[op.ordinal()];
+            if(histogram != null){
+                for(LongAdder bucket : histogram){
+                    bucket.reset();
+                }
+            }
+        }
+        highWaterSize = 0;
+    }
+
+    /**
+     * Registers these metrics with the platform MBean server under
+     * {@code io.hohichh:type=CustomLinkedList,name=<name>}.
+     * Unregister them through the platform MBean server when the list is no longer used.
+     *
+     * @param name the name identifying the list
+     * @return the object name the metrics were registered under
+     * @throws JMException if the name is invalid or already registered
+     */
+    public ObjectName registerMBean(String name) throws JMException{
+        ObjectName objectName = new ObjectName("io.hohichh:type=CustomLinkedList,name=" + ObjectName.quote(name));
+        ManagementFactory.getPlatformMBeanServer().registerMBean(this, objectName);
+        return objectName;
+    }
+
+    void record(Operation op){
+        counts[op.ordinal()].increment();
+    }
+
+    void recordSize(int size){
+        if(size > highWaterSize){
+            highWaterSize = size;
+        }
+    }
+
+    /**
+     * Records a walk of a positional operation in its histogram and as a JFR event.
+     *
+     * @param op the positional operation that resolved the index
+     * @param index the index resolved
+     * @param size the size of the list at the time
+     * @param steps the number of links followed
+     */
+    void recordTraversal(Operation op, int index, int size, int steps){
+        traversals[op.ordinal()][bucket(steps)].increment();
+        CustomLinkedListTraversalEvent event = new CustomLinkedListTraversalEvent();
+        if(event.shouldCommit()){
+            event.operation = op.name();
+            event.index = index;
+            event.size = size;
+            event.steps = steps;
+            event.commit();
+        }
+    }
+
+    /**
+     * Returns the histogram bucket of a walk: 0 for no steps, otherwise one more than the
+     * position of the highest set bit.
+     *
+     * @param steps the number of links followed
+     * @return the bucket index
+     */
+    static int bucket(int steps){
+        return Integer.SIZE - Integer.numberOfLeadingZeros(steps);
+    }
+}
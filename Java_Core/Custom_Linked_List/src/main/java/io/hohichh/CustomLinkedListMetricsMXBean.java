@@ -0,0 +1,33 @@
+package io.hohichh;
+
+import java.util.Map;
+
+/**
+ * The management interface of {@link CustomLinkedListMetrics}, as seen through JMX.
+ */
+public interface CustomLinkedListMetricsMXBean {
+
+    /**
+     * Returns the number of calls of every operation, keyed by the name of the {@link CustomLinkedListMetrics.Operation}.
+     * @return the operation counts
+     */
+    Map<String, Long> getOperationCounts();
+
+    /**
+     * Returns the traversal length histograms of the positional operations, keyed by operation name.
+     * Bucket 0 counts walks of zero steps and bucket {@code k} counts walks of {@code 2^(k-1)} to {@code 2^k - 1} steps.
+     * @return the traversal length histograms
+     */
+    Map<String, long[]> getTraversalHistograms();
+
+    /**
+     * Returns the largest size the list has reached since metrics were enabled or last reset.
+     * @return the high-water size
+     */
+    int getHighWaterSize();
+
+    /**
+     * Clears all counters, histograms and the high-water size.
+     */
+    void reset();
+}
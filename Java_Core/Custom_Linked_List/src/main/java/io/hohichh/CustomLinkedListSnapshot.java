@@ -0,0 +1,167 @@
+package io.hohichh;
+
+import io.hohichh.CustomLinkedList.CustomNode;
+
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * An immutable view of the contents a {@link CustomLinkedList} had when {@link CustomLinkedList#snapshot()} was called.
+ * <p>
+ * The view holds the first and last node of the chain and its length at that moment. The list may keep
+ * linking new nodes beyond either end, but it copies the chain before any other change, so the nodes
+ * between the two ends stay as they were. Every walk here is bounded by the recorded length and never
+ * follows the links leading out of that range. A snapshot can be read by any number of threads once it
+ * has been safely published.
+ *
+ * @param <E> the type of elements held in the snapshot
+ */
+public final class CustomLinkedListSnapshot<E> implements Iterable<E> {
+    private final CustomNode<E> head;
+    private final CustomNode<E> tail;
+    private final int size;
+
+    CustomLinkedListSnapshot(CustomNode<E> head, CustomNode<E> tail, int size){
+        this.head = head;
+        this.tail = tail;
+        this.size = size;
+    }
+
+    /**
+     * Returns the number of elements in this snapshot.
+     *
+     * @return the number of elements in this snapshot
+     */
+    public int size(){
+        return size;
+    }
+
+    /**
+     * Returns {@code true} if this snapshot contains no elements.
+     *
+     * @return {@code true} if this snapshot contains no elements
+     */
+    public boolean isEmpty(){
+        return size == 0;
+    }
+
+    /**
+     * Returns the first element in this snapshot.
+     *
+     * @return the first element in this snapshot
+     * @throws NoSuchElementException if this snapshot is empty
+     */
+    public E getFirst(){
+        if(size == 0){
+            throw new NoSuchElementException();
+        }
+        return head.getEl();
+    }
+
+    /**
+     * Returns the last element in this snapshot.
+     *
+     * @return the last element in this snapshot
+     * @throws NoSuchElementException if this snapshot is empty
+     */
+    public E getLast(){
+        if(size == 0){
+            throw new NoSuchElementException();
+        }
+        return tail.getEl();
+    }
+
+    /**
+     * Returns the element at the specified position in this snapshot,
+     * walking from whichever end is closer.
+     *
+     * @param index index of the element to return
+     * @return the element at the specified position in this snapshot
+     * @throws IndexOutOfBoundsException if the index is out of range (index < 0 || index >= size)
+     */
+    public E get(int index){
+        if(index < 0 || index >= size){
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+        }
+        CustomNode<E> search;
+        if(index < (size >> 1)){
+            search = head;
+            for(int i = 0; i < index; i++){
+                search = search.getNext();
+            }
+        } else{
+            search = tail;
+            for(int i = size - 1; i > index; i--){
+                search = search.getPrev();
+            }
+        }
+        return search.getEl();
+    }
+
+    /**
+     * Returns an iterator over the elements in this snapshot in proper sequence.
+     *
+     * @return an iterator over the elements in this snapshot
+     */
+    @Override
+    public Iterator<E> iterator(){
+        return new Iterator<>(){
+            private CustomNode<E> next = head;
+            private int remaining = size;
+
+            @Override
+            public boolean hasNext(){
+                return remaining > 0;
+            }
+
+            @Override
+            public E next(){
+                if(remaining == 0){
+                    throw new NoSuchElementException();
+                }
+                E e = next.getEl();
+                if(--remaining > 0){
+                    next = next.getNext();
+                }
+                return e;
+            }
+        };
+    }
+
+    /**
+     * Creates a spliterator over the elements in this snapshot.
+     * It reports {@link Spliterator#SIZED}, {@link Spliterator#ORDERED} and {@link Spliterator#IMMUTABLE}.
+     *
+     * @return a spliterator over the elements in this snapshot
+     */
+    @Override
+    public Spliterator<E> spliterator(){
+        return Spliterators.spliterator(iterator(), size, Spliterator.ORDERED | Spliterator.IMMUTABLE);
+    }
+
+    /**
+     * Returns a sequential stream with this snapshot as its source.
+     *
+     * @return a sequential stream over the elements in this snapshot
+     */
+    public Stream<E> stream(){
+        return StreamSupport.stream(spliterator(), false);
+    }
+
+    /**
+     * Copies the elements of this snapshot into a new, independent list.
+     *
+     * @return a new list holding the elements of this snapshot
+     */
+    public CustomLinkedList<E> toCustomLinkedList(){
+        CustomLinkedList<E> list = new CustomLinkedList<>();
+        for(E e : this){
+            list.addLast(e);
+        }
+        return list;
+    }
+}
@@ -0,0 +1,35 @@
+package io.hohichh;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Enabled;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * A JFR event emitted for every index walk of a {@link CustomLinkedList} with metrics enabled.
+ * It is disabled by default because positional access can be very frequent; enable it in
+ * the recording settings to see individual walks next to the rest of the profile.
+ */
+@Name(CustomLinkedListTraversalEvent.NAME)
+@Label("CustomLinkedList Traversal")
+@Category({"Java Core", "Collections"})
+@Description("A walk along the node chain to resolve an index")
+@Enabled(false)
+final class CustomLinkedListTraversalEvent extends Event {
+    static final String NAME = "io.hohichh.CustomLinkedListTraversal";
+
+    @Label("Operation")
+    String operation;
+
+    @Label("Index")
+    int index;
+
+    @Label("Size")
+    int size;
+
+    @Label("Steps")
+    @Description("Number of links followed to reach the index")
+    int steps;
+}
@@ -0,0 +1,226 @@
+package io.hohichh;
+
+import jdk.incubator.vector.IntVector;
+import jdk.incubator.vector.VectorOperators;
+import jdk.incubator.vector.VectorSpecies;
+
+import java.util.Arrays;
+import java.util.NoSuchElementException;
+
+/**
+ * A doubly-linked list of {@code int} values.
+ * It provides the same operations as {@link CustomLinkedList}, but stores values and links
+ * in parallel primitive arrays, so no element is ever boxed and no node object is allocated.
+ */
+public class IntLinkedList extends AbstractPrimitiveLinkedList {
+    private int[] values;
+
+    /**
+     * Constructs an empty list with the default initial capacity.
+     */
+    public IntLinkedList(){
+        this(DEFAULT_CAPACITY);
+    }
+
+    /**
+     * Constructs an empty list able to hold {@code initialCapacity} values before growing.
+     *
+     * @param initialCapacity the initial capacity of the list
+     * @throws IllegalArgumentException if initialCapacity is not positive
+     */
+    public IntLinkedList(int initialCapacity){
+        super(initialCapacity);
+        values = new int[initialCapacity];
+    }
+
+    @Override
+    void growValues(int newCapacity){
+        values = Arrays.copyOf(values, newCapacity);
+    }
+
+    /**
+     * Inserts the specified value at the beginning of this list.
+     *
+     * @param value the value to add
+     */
+    public void addFirst(int value){
+        int slot = allocateSlot();
+        values[slot] = value;
+        linkFirst(slot);
+    }
+
+    /**
+     * Appends the specified value to the end of this list.
+     *
+     * @param value the value to add
+     */
+    public void addLast(int value){
+        int slot = allocateSlot();
+        values[slot] = value;
+        linkLast(slot);
+    }
+
+    /**
+     * Inserts the specified value at the specified position in this list.
+     *
+     * @param index index at which the specified value is to be inserted
+     * @param value value to be inserted
+     * @throws IndexOutOfBoundsException if the index is out of range (index < 0 || index > size)
+     */
+    public void add(int index, int value){
+        checkPositionIndex(index);
+        if(index == size){
+            addLast(value);
+        } else if(index == 0){
+            addFirst(value);
+        } else{
+            int succ = slotByIndex(index);
+            int slot = allocateSlot();
+            values[slot] = value;
+            linkBefore(slot, succ);
+        }
+    }
+
+    /**
+     * Returns the first value in this list.
+     *
+     * @return the first value in this list
+     * @throws NoSuchElementException if this list is empty
+     */
+    public int getFirst(){
+        return values[headSlot()];
+    }
+
+    /**
+     * Returns the last value in this list.
+     *
+     * @return the last value in this list
+     * @throws NoSuchElementException if this list is empty
+     */
+    public int getLast(){
+        return values[tailSlot()];
+    }
+
+    /**
+     * Returns the value at the specified position in this list.
+     *
+     * @param index index of the value to return
+     * @return the value at the specified position in this list
+     * @throws IndexOutOfBoundsException if the index is out of range (index < 0 || index >= size)
+     */
+    public int get(int index){
+        return values[slotByIndex(index)];
+    }
+
+    /**
+     * Removes and returns the first value from this list.
+     *
+     * @return the first value from this list
+     * @throws NoSuchElementException if this list is empty
+     */
+    public int removeFirst(){
+        int slot = headSlot();
+        int value = values[slot];
+        unlink(slot);
+        return value;
+    }
+
+    /**
+     * Removes and returns the last value from this list.
+     *
+     * @return the last value from this list
+     * @throws NoSuchElementException if this list is empty
+     */
+    public int removeLast(){
+        int slot = tailSlot();
+        int value = values[slot];
+        unlink(slot);
+        return value;
+    }
+
+    /**
+     * Removes the value at the specified position in this list.
+     *
+     * @param index the index of the value to be removed
+     * @return the value previously at the specified position
+     * @throws IndexOutOfBoundsException if the index is out of range (index < 0 || index >= size)
+     */
+    public int remove(int index){
+        int slot = slotByIndex(index);
+        int value = values[slot];
+        unlink(slot);
+        return value;
+    }
+
+    /**
+     * Returns {@code true} if this list contains the specified value.
+     * Since list order does not matter here, the value array is scanned in slot order; a matching slot
+     * only counts if it is linked. When the Vector API is available, whole vectors of lanes are compared
+     * at a time with SIMD instructions.
+     *
+     * @param value the value to search for
+     * @return {@code true} if this list contains the value
+     */
+    public boolean contains(int value){
+        int[] v = values;
+        int i = 0;
+        if(VECTOR_API){
+            i = Simd.scan(v, prev, used, value);
+            if(i < 0){
+                return true;
+            }
+        }
+        for(; i < used; i++){
+            if(v[i] == value && prev[i] != FREE){
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Returns the index of the first occurrence of the specified value in this list,
+     * walking the links once from the head.
+     *
+     * @param value the value to search for
+     * @return the index of the first occurrence, or -1 if this list does not contain the value
+     */
+    public int indexOf(int value){
+        int index = 0;
+        for(int slot = head; slot != NIL; slot = next[slot]){
+            if(values[slot] == value){
+                return index;
+            }
+            index++;
+        }
+        return -1;
+    }
+
+    /**
+     * The SIMD part of {@link IntLinkedList#contains}. It lives in its own class so that the Vector API is only loaded
+     * when {@code jdk.incubator.vector} is present; without it, {@code contains} scans one slot at a time.
+     */
+    private static final class Simd {
+        private static final VectorSpecies<Integer> SPECIES = IntVector.SPECIES_PREFERRED;
+
+        /**
+         * Scans the value array a whole vector at a time, up to the last full vector.
+         *
+         * @return -1 if a linked slot holds the value, otherwise the first slot left for the scalar loop
+         */
+        static int scan(int[] v, int[] prev, int used, int value){
+            int bound = SPECIES.loopBound(used);
+            int i = 0;
+            for(; i < bound; i += SPECIES.length()){
+                long matches = IntVector.fromArray(SPECIES, v, i).compare(VectorOperators.EQ, value).toLong();
+                while(matches != 0){
+                    if(prev[i + Long.numberOfTrailingZeros(matches)] != FREE){
+                        return -1;
+                    }
+                    matches &= matches - 1;
+                }
+            }
+            return i;
+        }
+    }
+}
@@ -0,0 +1,38 @@
+package io.hohichh;
+
+/**
+ * The links an element must carry to be stored in an {@link IntrusiveLinkedList}.
+ * The accessors mirror those of the nodes of {@link CustomLinkedList}, but live on the element itself,
+ * so the list needs no wrapper object per element.
+ * <p>
+ * Implementations only store the references they are given; the list is the sole writer.
+ * An element can be linked into at most one list at a time.
+ *
+ * @param <T> the element type, normally the implementing class itself
+ */
+public interface IntrusiveLink<T extends IntrusiveLink<T>> {
+
+    /**
+     * Returns the next element in the list.
+     * @return the next element, or {@code null} if this is the last one or it is not linked
+     */
+    T getNext();
+
+    /**
+     * Returns the previous element in the list.
+     * @return the previous element, or {@code null} if this is the first one or it is not linked
+     */
+    T getPrev();
+
+    /**
+     * Sets the reference to the next element.
+     * @param next the next element
+     */
+    void setNext(T next);
+
+    /**
+     * Sets the reference to the previous element.
+     * @param prev the previous element
+     */
+    void setPrev(T prev);
+}
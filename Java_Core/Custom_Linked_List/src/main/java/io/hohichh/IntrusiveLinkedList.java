@@ -0,0 +1,298 @@
+package io.hohichh;
+
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+
+/**
+ * A doubly-linked list whose elements carry their own links through {@link IntrusiveLink}.
+ * It offers the operations of {@link CustomLinkedList} without allocating a node per element,
+ * and because an element knows its neighbours, it can be unlinked or moved in constant time
+ * without knowing its index. This suits LRU orders, timer wheels and similar structures
+ * that already hold a reference to the element they want to touch.
+ * <p>
+ * An element may belong to at most one list at a time. Adding an element that has a neighbour,
+ * or is the only element of this list, throws {@link IllegalArgumentException}. The only element of
+ * another list has no links and cannot be told apart from an unlinked element in constant time,
+ * so adding it is not detected and must be avoided by the caller.
+ * Likewise, {@link #unlink}, {@link #moveToFront}, {@link #moveToBack} and {@link #addBefore} reject
+ * an element that is not linked at all, but must only be given elements of this list.
+ * Null elements are not permitted.
+ * The iterator is fail-fast, like the one of {@link CustomLinkedList}.
+ *
+ * @param <T> the type of elements held in this collection
+ */
+public class IntrusiveLinkedList<T extends IntrusiveLink<T>> implements Iterable<T> {
+    private T head;
+    private T tail;
+    private int size;
+    /** The number of structural modifications, used to make iterators fail-fast. */
+    private int modCount;
+
+    /**
+     * Returns the number of elements in this list.
+     *
+     * @return the number of elements in this list
+     */
+    public int size(){
+        return size;
+    }
+
+    /**
+     * Returns {@code true} if this list contains no elements.
+     *
+     * @return {@code true} if this list contains no elements
+     */
+    public boolean isEmpty(){
+        return size == 0;
+    }
+
+    /**
+     * Inserts the specified element at the beginning of this list.
+     *
+     * @param e the element to add
+     * @throws IllegalArgumentException if the element is already linked into a list
+     */
+    public void addFirst(T e){
+        checkUnlinked(e);
+        if(head == null){
+            head = tail = e;
+        } else{
+            e.setNext(head);
+            head.setPrev(e);
+            head = e;
+        }
+        size++;
+        modCount++;
+    }
+
+    /**
+     * Appends the specified element to the end of this list.
+     *
+     * @param e the element to add
+     * @throws IllegalArgumentException if the element is already linked into a list
+     */
+    public void addLast(T e){
+        checkUnlinked(e);
+        if(tail == null){
+            head = tail = e;
+        } else{
+            tail.setNext(e);
+            e.setPrev(tail);
+            tail = e;
+        }
+        size++;
+        modCount++;
+    }
+
+    /**
+     * Inserts the specified element in front of an element of this list.
+     *
+     * @param e the element to add
+     * @param succ the element of this list that will follow the new one
+     * @throws IllegalArgumentException if the element is already linked into a list
+     *         or {@code succ} is not linked into a list
+     */
+    public void addBefore(T e, T succ){
+        checkLinked(succ);
+        T pred = succ.getPrev();
+        if(pred == null){
+            addFirst(e);
+            return;
+        }
+        checkUnlinked(e);
+        e.setPrev(pred);
+        e.setNext(succ);
+        pred.setNext(e);
+        succ.setPrev(e);
+        size++;
+        modCount++;
+    }
+
+    /**
+     * Returns the first element in this list.
+     *
+     * @return the first element in this list
+     * @throws NoSuchElementException if this list is empty
+     */
+    public T getFirst(){
+        if(head == null){
+            throw new NoSuchElementException();
+        }
+        return head;
+    }
+
+    /**
+     * Returns the last element in this list.
+     *
+     * @return the last element in this list
+     * @throws NoSuchElementException if this list is empty
+     */
+    public T getLast(){
+        if(tail == null){
+            throw new NoSuchElementException();
+        }
+        return tail;
+    }
+
+    /**
+     * Removes and returns the first element from this list.
+     *
+     * @return the first element from this list
+     * @throws NoSuchElementException if this list is empty
+     */
+    public T removeFirst(){
+        if(head == null){
+            throw new NoSuchElementException();
+        }
+        T first = head;
+        unlink(first);
+        return first;
+    }
+
+    /**
+     * Removes and returns the last element from this list.
+     *
+     * @return the last element from this list
+     * @throws NoSuchElementException if this list is empty
+     */
+    public T removeLast(){
+        if(tail == null){
+            throw new NoSuchElementException();
+        }
+        T last = tail;
+        unlink(last);
+        return last;
+    }
+
+    /**
+     * Removes the specified element of this list in constant time and clears its links,
+     * so it can be added to a list again.
+     *
+     * @param e the element of this list to remove
+     * @throws IllegalArgumentException if the element is not linked into a list
+     */
+    public void unlink(T e){
+        checkLinked(e);
+        T prev = e.getPrev();
+        T next = e.getNext();
+        if(prev == null){
+            head = next;
+        } else{
+            prev.setNext(next);
+            e.setPrev(null);
+        }
+        if(next == null){
+            tail = prev;
+        } else{
+            next.setPrev(prev);
+            e.setNext(null);
+        }
+        size--;
+        modCount++;
+    }
+
+    /**
+     * Moves the specified element of this list to the beginning of the list in constant time.
+     *
+     * @param e the element of this list to move
+     * @throws IllegalArgumentException if the element is not linked into a list
+     */
+    public void moveToFront(T e){
+        if(e != head){
+            unlink(e);
+            addFirst(e);
+        }
+    }
+
+    /**
+     * Moves the specified element of this list to the end of the list in constant time.
+     *
+     * @param e the element of this list to move
+     * @throws IllegalArgumentException if the element is not linked into a list
+     */
+    public void moveToBack(T e){
+        if(e != tail){
+            unlink(e);
+            addLast(e);
+        }
+    }
+
+    /**
+     * Returns an iterator over the elements in this list in proper sequence.
+     * Its {@code remove} unlinks the last returned element.
+     *
+     * @return an iterator over the elements in this list
+     */
+    @Override
+    public Iterator<T> iterator(){
+        return new Itr();
+    }
+
+    /**
+     * Rejects null elements and elements that are still linked into a list.
+     * A linked element has a neighbour, unless it is the only element of its list.
+     *
+     * @param e the element about to be linked
+     */
+    private void checkUnlinked(T e){
+        Objects.requireNonNull(e);
+        if(e.getNext() != null || e.getPrev() != null || e == head){
+            throw new IllegalArgumentException("Element is already linked into a list");
+        }
+    }
+
+    /**
+     * Rejects null elements and elements that are not linked. An element without a previous
+     * element must be the head and one without a next element must be the tail, otherwise
+     * unlinking it would overwrite the ends of this list.
+     *
+     * @param e the element about to be unlinked or used as a position
+     */
+    private void checkLinked(T e){
+        Objects.requireNonNull(e);
+        if((e.getPrev() == null && e != head) || (e.getNext() == null && e != tail)){
+            throw new IllegalArgumentException("Element is not linked into this list");
+        }
+    }
+
+    private final class Itr implements Iterator<T> {
+        private T next = head;
+        private T lastReturned;
+        private int expectedModCount = modCount;
+
+        @Override
+        public boolean hasNext(){
+            return next != null;
+        }
+
+        @Override
+        public T next(){
+            checkForComodification();
+            if(next == null){
+                throw new NoSuchElementException();
+            }
+            lastReturned = next;
+            next = next.getNext();
+            return lastReturned;
+        }
+
+        @Override
+        public void remove(){
+            checkForComodification();
+            if(lastReturned == null){
+                throw new IllegalStateException();
+            }
+            unlink(lastReturned);
+            lastReturned = null;
+            expectedModCount = modCount;
+        }
+
+        private void checkForComodification(){
+            if(modCount != expectedModCount){
+                throw new ConcurrentModificationException();
+            }
+        }
+    }
+}
@@ -0,0 +1,48 @@
+package io.hohichh;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * The admission policy returned by {@link AdmissionPolicy#lfu(int)}.
+ *
+ * @param <K> the type of keys
+ */
+final class LfuAdmissionPolicy<K> implements AdmissionPolicy<K> {
+    private final Map<K, Integer> counts = new HashMap<>();
+    private final int sampleSize;
+    private int accesses;
+
+    LfuAdmissionPolicy(int sampleSize){
+        if(sampleSize <= 0){
+            throw new IllegalArgumentException("Sample size must be positive: " + sampleSize);
+        }
+        this.sampleSize = sampleSize;
+    }
+
+    @Override
+    public void recordAccess(K key){
+        counts.merge(key, 1, Integer::sum);
+        if(++accesses == sampleSize){
+            age();
+        }
+    }
+
+    @Override
+    public boolean admit(K candidate, K victim){
+        return frequency(candidate) >= frequency(victim);
+    }
+
+    int frequency(K key){
+        return counts.getOrDefault(key, 0);
+    }
+
+    /**
+     * Halves every count and drops keys that reach zero.
+     */
+    private void age(){
+        counts.replaceAll((k, count) -> count >>> 1);
+        counts.values().removeIf(count -> count == 0);
+        accesses = 0;
+    }
+}
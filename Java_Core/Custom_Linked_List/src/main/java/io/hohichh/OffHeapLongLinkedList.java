@@ -0,0 +1,339 @@
+package io.hohichh;
+
+import java.lang.foreign.Arena;
+import java.lang.foreign.MemorySegment;
+import java.lang.foreign.ValueLayout;
+import java.util.NoSuchElementException;
+
+/**
+ * A doubly-linked list of {@code long} values whose nodes live outside the Java heap.
+ * It provides the same operations as {@link CustomLinkedList}.
+ * <p>
+ * Every node is a fixed-size record of a value and two {@code int} links to neighbouring slots.
+ * Records are stored in chunks of native memory allocated from a confined {@link Arena}, so the list
+ * adds nothing for the garbage collector to trace. The first chunk holds 16 records and every further
+ * chunk is twice as large as the previous one, so a small list reserves little memory and a large one
+ * at most twice what it uses. Removed slots are kept in a free list and reused.
+ * All memory is released at once by {@link #close()}; any later access throws {@link IllegalStateException}.
+ * Like the arena, the list may only be used by the thread that created it.
+ */
+public class OffHeapLongLinkedList implements AutoCloseable {
+    private static final int NIL = -1;
+
+    private static final long VALUE_OFFSET = 0;
+    private static final long NEXT_OFFSET = 8;
+    private static final long PREV_OFFSET = 12;
+    private static final long SLOT_BYTES = 16;
+
+    private static final int FIRST_CHUNK_SHIFT = 4;
+    private static final int FIRST_CHUNK_SLOTS = 1 << FIRST_CHUNK_SHIFT;
+    /** Keeps {@code slot + FIRST_CHUNK_SLOTS} within the {@code int} range used to locate a slot. */
+    private static final int MAX_SLOTS = Integer.MAX_VALUE - FIRST_CHUNK_SLOTS + 1;
+
+    private final Arena arena = Arena.ofConfined();
+    private MemorySegment[] chunks = new MemorySegment[Integer.SIZE - FIRST_CHUNK_SHIFT];
+    private int chunkCount;
+    private long capacity;
+    private boolean closed;
+
+    private int size;
+    private int head = NIL;
+    private int tail = NIL;
+    private int used;
+    private int free = NIL;
+
+    /**
+     * Returns the number of elements in this list.
+     *
+     * @return the number of elements in this list
+     */
+    public int size(){
+        return size;
+    }
+
+    /**
+     * Inserts the specified value at the beginning of this list.
+     *
+     * @param value the value to add
+     */
+    public void addFirst(long value){
+        ensureOpen();
+        int slot = allocateSlot(value);
+        setPrev(slot, NIL);
+        setNext(slot, head);
+        if(head == NIL){
+            tail = slot;
+        } else{
+            setPrev(head, slot);
+        }
+        head = slot;
+        size++;
+    }
+
+    /**
+     * Appends the specified value to the end of this list.
+     *
+     * @param value the value to add
+     */
+    public void addLast(long value){
+        ensureOpen();
+        int slot = allocateSlot(value);
+        setNext(slot, NIL);
+        setPrev(slot, tail);
+        if(tail == NIL){
+            head = slot;
+        } else{
+            setNext(tail, slot);
+        }
+        tail = slot;
+        size++;
+    }
+
+    /**
+     * Inserts the specified value at the specified position in this list.
+     *
+     * @param index index at which the specified value is to be inserted
+     * @param value value to be inserted
+     * @throws IndexOutOfBoundsException if the index is out of range (index < 0 || index > size)
+     */
+    public void add(int index, long value){
+        ensureOpen();
+        if(index < 0 || index > size){
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+        }
+        if(index == size){
+            addLast(value);
+        } else if(index == 0){
+            addFirst(value);
+        } else{
+            int succ = slotByIndex(index);
+            int pred = prev(succ);
+            int slot = allocateSlot(value);
+            setPrev(slot, pred);
+            setNext(slot, succ);
+            setNext(pred, slot);
+            setPrev(succ, slot);
+            size++;
+        }
+    }
+
+    /**
+     * Returns the first value in this list.
+     *
+     * @return the first value in this list
+     * @throws NoSuchElementException if this list is empty
+     */
+    public long getFirst(){
+        ensureOpen();
+        if(head == NIL){
+            throw new NoSuchElementException();
+        }
+        return value(head);
+    }
+
+    /**
+     * Returns the last value in this list.
+     *
+     * @return the last value in this list
+     * @throws NoSuchElementException if this list is empty
+     */
+    public long getLast(){
+        ensureOpen();
+        if(tail == NIL){
+            throw new NoSuchElementException();
+        }
+        return value(tail);
+    }
+
+    /**
+     * Returns the value at the specified position in this list.
+     *
+     * @param index index of the value to return
+     * @return the value at the specified position in this list
+     * @throws IndexOutOfBoundsException if the index is out of range (index < 0 || index >= size)
+     */
+    public long get(int index){
+        ensureOpen();
+        return value(slotByIndex(index));
+    }
+
+    /**
+     * Removes and returns the first value from this list.
+     *
+     * @return the first value from this list
+     * @throws NoSuchElementException if this list is empty
+     */
+    public long removeFirst(){
+        ensureOpen();
+        if(head == NIL){
+            throw new NoSuchElementException();
+        }
+        return unlink(head);
+    }
+
+    /**
+     * Removes and returns the last value from this list.
+     *
+     * @return the last value from this list
+     * @throws NoSuchElementException if this list is empty
+     */
+    public long removeLast(){
+        ensureOpen();
+        if(tail == NIL){
+            throw new NoSuchElementException();
+        }
+        return unlink(tail);
+    }
+
+    /**
+     * Removes the value at the specified position in this list.
+     *
+     * @param index the index of the value to be removed
+     * @return the value previously at the specified position
+     * @throws IndexOutOfBoundsException if the index is out of range (index < 0 || index >= size)
+     */
+    public long remove(int index){
+        ensureOpen();
+        return unlink(slotByIndex(index));
+    }
+
+    /**
+     * Frees all native memory held by this list. Calling it more than once has no effect.
+     */
+    @Override
+    public void close(){
+        if(!closed){
+            closed = true;
+            chunks = null;
+            arena.close();
+        }
+    }
+
+    private void ensureOpen(){
+        if(closed){
+            throw new IllegalStateException("List is closed");
+        }
+    }
+
+    /**
+     * Unlinks the slot from the chain, puts it into the free list and returns its value.
+     *
+     * @param slot the slot to unlink
+     * @return the value stored in the slot
+     */
+    private long unlink(int slot){
+        long value = value(slot);
+        int p = prev(slot);
+        int n = next(slot);
+        if(p == NIL){
+            head = n;
+        } else{
+            setNext(p, n);
+        }
+        if(n == NIL){
+            tail = p;
+        } else{
+            setPrev(n, p);
+        }
+        setNext(slot, free);
+        free = slot;
+        size--;
+        return value;
+    }
+
+    /**
+     * Takes a slot from the free list, or the next never used slot, and stores the value in it.
+     * A new chunk of native memory, twice as large as the last one, is allocated
+     * when all existing chunks are in use.
+     *
+     * @param value the value to store
+     * @return the index of the slot
+     */
+    private int allocateSlot(long value){
+        int slot;
+        if(free != NIL){
+            slot = free;
+            free = next(slot);
+        } else{
+            if(used == MAX_SLOTS){
+                throw new IllegalStateException("List cannot hold more than " + MAX_SLOTS + " elements");
+            }
+            if(used == capacity){
+                long chunkSlots = (long) FIRST_CHUNK_SLOTS << chunkCount;
+                chunks[chunkCount++] = arena.allocate(chunkSlots * SLOT_BYTES, Long.BYTES);
+                capacity += chunkSlots;
+            }
+            slot = used++;
+        }
+        setValue(slot, value);
+        return slot;
+    }
+
+    /**
+     * Returns the slot at the specified element index, walking from the head
+     * if the index is in the first half and from the tail otherwise.
+     *
+     * @param index the index of the element
+     * @return the slot holding the element
+     * @throws IndexOutOfBoundsException if the index is out of range (index < 0 || index >= size)
+     */
+    private int slotByIndex(int index){
+        if(index < 0 || index >= size){
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+        }
+        int search;
+        if(index < (size >> 1)){
+            search = head;
+            for(int i = 0; i < index; i++){
+                search = next(search);
+            }
+        } else{
+            search = tail;
+            for(int i = size - 1; i > index; i--){
+                search = prev(search);
+            }
+        }
+        return search;
+    }
+
+    /**
+     * Chunk {@code k} holds {@code 16 << k} slots starting at slot {@code 16 * (2^k - 1)},
+     * so {@code slot + 16} has its highest bit at position {@code k + 4}.
+     */
+    private MemorySegment chunk(int slot){
+        return chunks[chunkIndex(slot)];
+    }
+
+    private static int chunkIndex(int slot){
+        return (Integer.SIZE - 1 - Integer.numberOfLeadingZeros(slot + FIRST_CHUNK_SLOTS)) - FIRST_CHUNK_SHIFT;
+    }
+
+    private static long offset(int slot){
+        int shifted = slot + FIRST_CHUNK_SLOTS;
+        return (long) (shifted - Integer.highestOneBit(shifted)) * SLOT_BYTES;
+    }
+
+    private long value(int slot){
+        return chunk(slot).get(ValueLayout.JAVA_LONG, offset(slot) + VALUE_OFFSET);
+    }
+
+    private void setValue(int slot, long value){
+        chunk(slot).set(ValueLayout.JAVA_LONG, offset(slot) + VALUE_OFFSET, value);
+    }
+
+    private int next(int slot){
+        return chunk(slot).get(ValueLayout.JAVA_INT, offset(slot) + NEXT_OFFSET);
+    }
+
+    private void setNext(int slot, int next){
+        chunk(slot).set(ValueLayout.JAVA_INT, offset(slot) + NEXT_OFFSET, next);
+    }
+
+    private int prev(int slot){
+        return chunk(slot).get(ValueLayout.JAVA_INT, offset(slot) + PREV_OFFSET);
+    }
+
+    private void setPrev(int slot, int prev){
+        chunk(slot).set(ValueLayout.JAVA_INT, offset(slot) + PREV_OFFSET, prev);
+    }
+}
@@ -0,0 +1,288 @@
+package io.hohichh;
+
+import java.util.NoSuchElementException;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * A doubly-linked list with a skip-list index over its nodes.
+ * It offers the same operations as {@link CustomLinkedList}, but positional access,
+ * insertion and removal take expected O(log n) time instead of a walk from the head or tail.
+ * <p>
+ * The bottom level is an ordinary doubly-linked chain. Every node is also linked into a random
+ * number of express levels, and each forward link stores its span, the number of bottom-level steps
+ * it skips. A search for an index adds up spans level by level until it reaches the wanted position.
+ *
+ * @param <E> the type of elements held in this collection
+ */
+public class SkipIndexedLinkedList<E> {
+    private static final int MAX_LEVEL = 16;
+
+    private final SkipNode<E> header = new SkipNode<>(null, MAX_LEVEL);
+    private SkipNode<E> tail;
+    private int level = 1;
+    private int size;
+
+    private final SkipNode<E>[] update = SkipNode.newArray(MAX_LEVEL);
+    private final int[] rank = new int[MAX_LEVEL];
+
+    /**
+     * Returns the number of elements in this list.
+     *
+     * @return the number of elements in this list
+     */
+    public int size(){
+        return size;
+    }
+
+    /**
+     * Inserts the specified element at the beginning of this list.
+     *
+     * @param e the element to add
+     */
+    public void addFirst(E e){
+        insert(0, e);
+    }
+
+    /**
+     * Appends the specified element to the end of this list.
+     *
+     * @param e the element to add
+     */
+    public void addLast(E e){
+        insert(size, e);
+    }
+
+    /**
+     * Inserts the specified element at the specified position in this list.
+     *
+     * @param index index at which the specified element is to be inserted
+     * @param e element to be inserted
+     * @throws IndexOutOfBoundsException if the index is out of range (index < 0 || index > size)
+     */
+    public void add(int index, E e){
+        if(index < 0 || index > size){
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+        }
+        insert(index, e);
+    }
+
+    /**
+     * Returns the first element in this list.
+     *
+     * @return the first element in this list
+     * @throws NoSuchElementException if this list is empty
+     */
+    public E getFirst(){
+        if(size == 0){
+            throw new NoSuchElementException();
+        }
+        return header.next[0].el;
+    }
+
+    /**
+     * Returns the last element in this list.
+     *
+     * @return the last element in this list
+     * @throws NoSuchElementException if this list is empty
+     */
+    public E getLast(){
+        if(tail == null){
+            throw new NoSuchElementException();
+        }
+        return tail.el;
+    }
+
+    /**
+     * Returns the element at the specified position in this list.
+     *
+     * @param index index of the element to return
+     * @return the element at the specified position in this list
+     * @throws IndexOutOfBoundsException if the index is out of range (index < 0 || index >= size)
+     */
+    public E get(int index){
+        checkElementIndex(index);
+        int position = index + 1;
+        SkipNode<E> x = header;
+        int traversed = 0;
+        for(int i = level - 1; i >= 0; i--){
+            while(x.next[i] != null && traversed + x.span[i] <= position){
+                traversed += x.span[i];
+                x = x.next[i];
+            }
+            if(traversed == position){
+                break;
+            }
+        }
+        return x.el;
+    }
+
+    /**
+     * Removes and returns the first element from this list.
+     *
+     * @return the first element from this list
+     * @throws NoSuchElementException if this list is empty
+     */
+    public E removeFirst(){
+        if(size == 0){
+            throw new NoSuchElementException();
+        }
+        return delete(0);
+    }
+
+    /**
+     * Removes and returns the last element from this list.
+     *
+     * @return the last element from this list
+     * @throws NoSuchElementException if this list is empty
+     */
+    public E removeLast(){
+        if(size == 0){
+            throw new NoSuchElementException();
+        }
+        return delete(size - 1);
+    }
+
+    /**
+     * Removes the element at the specified position in this list.
+     *
+     * @param index the index of the element to be removed
+     * @return the element previously at the specified position
+     * @throws IndexOutOfBoundsException if the index is out of range (index < 0 || index >= size)
+     */
+    public E remove(int index){
+        checkElementIndex(index);
+        return delete(index);
+    }
+
+    private void checkElementIndex(int index){
+        if(index < 0 || index >= size){
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+        }
+    }
+
+    /**
+     * Fills {@code update} with the rightmost node on every level that lies before
+     * the element at {@code index}, and {@code rank} with the position of that node.
+     * The header is at position 0 and the element at index {@code i} is at position {@code i + 1}.
+     *
+     * @param index the index of the element whose predecessors are searched
+     */
+    private void findPredecessors(int index){
+        SkipNode<E> x = header;
+        int traversed = 0;
+        for(int i = level - 1; i >= 0; i--){
+            while(x.next[i] != null && traversed + x.span[i] <= index){
+                traversed += x.span[i];
+                x = x.next[i];
+            }
+            update[i] = x;
+            rank[i] = traversed;
+        }
+    }
+
+    /**
+     * Links a new node so that it becomes the element at {@code index}.
+     *
+     * @param index the position of the new element, between 0 and size inclusive
+     * @param e the element to insert
+     */
+    private void insert(int index, E e){
+        findPredecessors(index);
+        int nodeLevel = randomLevel();
+        if(nodeLevel > level){
+            for(int i = level; i < nodeLevel; i++){
+                update[i] = header;
+                rank[i] = 0;
+                header.span[i] = size;
+            }
+            level = nodeLevel;
+        }
+        SkipNode<E> x = new SkipNode<>(e, nodeLevel);
+        for(int i = 0; i < nodeLevel; i++){
+            x.next[i] = update[i].next[i];
+            update[i].next[i] = x;
+            x.span[i] = update[i].span[i] - (index - rank[i]);
+            update[i].span[i] = index - rank[i] + 1;
+        }
+        for(int i = nodeLevel; i < level; i++){
+            update[i].span[i]++;
+        }
+
+        x.prev = (update[0] == header) ? null : update[0];
+        if(x.next[0] == null){
+            tail = x;
+        } else{
+            x.next[0].prev = x;
+        }
+        size++;
+    }
+
+    /**
+     * Unlinks the element at {@code index} from every level it belongs to.
+     *
+     * @param index the index of the element to remove
+     * @return the removed element
+     */
+    private E delete(int index){
+        findPredecessors(index);
+        SkipNode<E> x = update[0].next[0];
+        for(int i = 0; i < level; i++){
+            if(update[i].next[i] == x){
+                update[i].span[i] += x.span[i] - 1;
+                update[i].next[i] = x.next[i];
+            } else{
+                update[i].span[i]--;
+            }
+        }
+        if(x.next[0] == null){
+            tail = x.prev;
+        } else{
+            x.next[0].prev = x.prev;
+        }
+        while(level > 1 && header.next[level - 1] == null){
+            level--;
+        }
+        size--;
+        for(int i = 0; i < level; i++){
+            update[i] = null;
+        }
+        return x.el;
+    }
+
+    /**
+     * Returns a random level for a new node, where every further level is taken with probability 1/4.
+     *
+     * @return a level between 1 and {@code MAX_LEVEL}
+     */
+    private static int randomLevel(){
+        int zeros = Integer.numberOfTrailingZeros(ThreadLocalRandom.current().nextInt());
+        return Math.min(1 + (zeros >> 1), MAX_LEVEL);
+    }
+
+    /**
+     * A node of the skip list. {@code next[i]} is the following node on level {@code i}
+     * and {@code span[i]} is the number of bottom-level steps that link covers.
+     * @param <E> the type of element stored in the node
+     */
+    private static final class SkipNode<E> {
+        private final E el;
+        private final SkipNode<E>[] next;
+        private final int[] span;
+        private SkipNode<E> prev;
+
+        SkipNode(E el, int level){
+            this.el = el;
+            this.next = newArray(level);
+            this.span = new int[level];
+        }
+
+        /**
+         * Creates an array of nodes. Generic arrays cannot be created directly,
+         * so this is the one place that needs an unchecked cast.
+         */
+        @SuppressWarnings("unchecked")
+        static <E> SkipNode<E>[] newArray(int length){
+            return (SkipNode<E>[]) new SkipNode<?>[length];
+        }
+    }
+}
@@ -0,0 +1,86 @@
+package io.hohichh;
+
+/**
+ * The admission policy returned by {@link AdmissionPolicy#tinyLfu(int)}.
+ * <p>
+ * Frequencies live in a count-min sketch of {@code DEPTH} rows of counters that saturate at {@code MAX_COUNT}.
+ * An access increments, in every row, only the counters that hold the current minimum for the key
+ * (conservative update), which keeps over-estimation from hash collisions low. After {@code 10 * width}
+ * accesses every counter is halved.
+ *
+ * @param <K> the type of keys
+ */
+final class TinyLfuAdmissionPolicy<K> implements AdmissionPolicy<K> {
+    private static final int DEPTH = 4;
+    private static final int MAX_COUNT = 15;
+    private static final int MAX_WIDTH = 1 << 24;
+    private static final int[] SEEDS = {0x97CB3127, 0x2D3A9C51, 0x6E8C5F1B, 0xB2C94DF5};
+
+    private final int[][] rows;
+    private final int mask;
+    private final int sampleSize;
+    private int accesses;
+
+    TinyLfuAdmissionPolicy(int capacity){
+        if(capacity <= 0){
+            throw new IllegalArgumentException("Capacity must be positive: " + capacity);
+        }
+        int width = Integer.highestOneBit(Math.min(Math.max(16, capacity - 1), MAX_WIDTH >>> 1) << 1);
+        rows = new int[DEPTH][width];
+        mask = width - 1;
+        sampleSize = 10 * width;
+    }
+
+    @Override
+    public void recordAccess(K key){
+        int h = spread(key.hashCode());
+        int min = frequency(h);
+        if(min < MAX_COUNT){
+            for(int i = 0; i < DEPTH; i++){
+                int index = index(h, i);
+                if(rows[i][index] == min){
+                    rows[i][index]++;
+                }
+            }
+        }
+        if(++accesses == sampleSize){
+            age();
+        }
+    }
+
+    @Override
+    public boolean admit(K candidate, K victim){
+        return frequency(candidate) > frequency(victim);
+    }
+
+    int frequency(K key){
+        return frequency(spread(key.hashCode()));
+    }
+
+    private int frequency(int h){
+        int min = MAX_COUNT;
+        for(int i = 0; i < DEPTH; i++){
+            min = Math.min(min, rows[i][index(h, i)]);
+        }
+        return min;
+    }
+
+    private int index(int h, int row){
+        int x = (h ^ SEEDS[row]) * 0x9E3779B9;
+        return (x ^ (x >>> 16)) & mask;
+    }
+
+    private static int spread(int h){
+        h *= 0x85EBCA6B;
+        return h ^ (h >>> 13);
+    }
+
+    private void age(){
+        for(int[] row : rows){
+            for(int i = 0; i < row.length; i++){
+                row[i] >>>= 1;
+            }
+        }
+        accesses = 0;
+    }
+}
@@ -0,0 +1,371 @@
+package io.hohichh;
+
+import java.util.NoSuchElementException;
+
+/**
+ * An unrolled doubly-linked list: every node stores a small array of elements instead of a single one.
+ * It offers the same operations as {@link CustomLinkedList}, but an indexed walk skips a whole chunk
+ * per step and the per-element node overhead is shared by up to {@code nodeCapacity} elements.
+ *
+ * @param <E> the type of elements held in this collection
+ */
+public class UnrolledLinkedList<E> {
+    private static final int DEFAULT_NODE_CAPACITY = 16;
+
+    private final int nodeCapacity;
+    private int size;
+
+    private UnrolledNode head;
+    private UnrolledNode tail;
+
+    /**
+     * Constructs an empty list with the default node capacity.
+     */
+    public UnrolledLinkedList(){
+        this(DEFAULT_NODE_CAPACITY);
+    }
+
+    /**
+     * Constructs an empty list whose nodes hold up to {@code nodeCapacity} elements each.
+     *
+     * @param nodeCapacity the maximum number of elements stored in one node
+     * @throws IllegalArgumentException if nodeCapacity is less than 2
+     */
+    public UnrolledLinkedList(int nodeCapacity){
+        if(nodeCapacity < 2){
+            throw new IllegalArgumentException("Node capacity must be at least 2: " + nodeCapacity);
+        }
+        this.nodeCapacity = nodeCapacity;
+    }
+
+    /**
+     * Returns the number of elements in this list.
+     *
+     * @return the number of elements in this list
+     */
+    public int size(){
+        return size;
+    }
+
+    /**
+     * Inserts the specified element at the beginning of this list.
+     *
+     * @param e the element to add
+     */
+    public void addFirst(E e){
+        if(head == null || head.count == nodeCapacity){
+            linkBefore(head);
+        }
+        head.insert(0, e);
+        size++;
+    }
+
+    /**
+     * Appends the specified element to the end of this list.
+     *
+     * @param e the element to add
+     */
+    public void addLast(E e){
+        if(tail == null || tail.count == nodeCapacity){
+            linkAfter(tail);
+        }
+        tail.insert(tail.count, e);
+        size++;
+    }
+
+    /**
+     * Inserts the specified element at the specified position in this list.
+     *
+     * @param index index at which the specified element is to be inserted
+     * @param e element to be inserted
+     * @throws IndexOutOfBoundsException if the index is out of range (index < 0 || index > size)
+     */
+    public void add(int index, E e){
+        if(index < 0 || index > size){
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+        }
+        if(index == size){
+            addLast(e);
+        } else if(index == 0){
+            addFirst(e);
+        } else{
+            Position position = locate(index);
+            UnrolledNode node = position.node;
+            int offset = position.offset;
+            if(node.count == nodeCapacity){
+                UnrolledNode next = linkAfter(node);
+                int half = nodeCapacity >> 1;
+                node.moveTailTo(next, half);
+                if(offset > half){
+                    node = next;
+                    offset -= half;
+                }
+            }
+            node.insert(offset, e);
+            size++;
+        }
+    }
+
+    /**
+     * Returns the first element in this list.
+     *
+     * @return the first element in this list
+     * @throws NoSuchElementException if this list is empty
+     */
+    public E getFirst(){
+        if(head == null){
+            throw new NoSuchElementException();
+        }
+        return head.get(0);
+    }
+
+    /**
+     * Returns the last element in this list.
+     *
+     * @return the last element in this list
+     * @throws NoSuchElementException if this list is empty
+     */
+    public E getLast(){
+        if(tail == null){
+            throw new NoSuchElementException();
+        }
+        return tail.get(tail.count - 1);
+    }
+
+    /**
+     * Returns the element at the specified position in this list.
+     *
+     * @param index index of the element to return
+     * @return the element at the specified position in this list
+     * @throws IndexOutOfBoundsException if the index is out of range (index < 0 || index >= size)
+     */
+    public E get(int index){
+        Position position = locate(index);
+        return position.node.get(position.offset);
+    }
+
+    /**
+     * Removes and returns the first element from this list.
+     *
+     * @return the first element from this list
+     * @throws NoSuchElementException if this list is empty
+     */
+    public E removeFirst(){
+        if(head == null){
+            throw new NoSuchElementException();
+        }
+        return removeAt(head, 0);
+    }
+
+    /**
+     * Removes and returns the last element from this list.
+     *
+     * @return the last element from this list
+     * @throws NoSuchElementException if this list is empty
+     */
+    public E removeLast(){
+        if(tail == null){
+            throw new NoSuchElementException();
+        }
+        return removeAt(tail, tail.count - 1);
+    }
+
+    /**
+     * Removes the element at the specified position in this list.
+     *
+     * @param index the index of the element to be removed
+     * @return the element previously at the specified position
+     * @throws IndexOutOfBoundsException if the index is out of range (index < 0 || index >= size)
+     */
+    public E remove(int index){
+        if(index < 0 || index >= size){
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+        }
+        Position position = locate(index);
+        return removeAt(position.node, position.offset);
+    }
+
+    /**
+     * Removes the element at the given offset of a node. An emptied node is unlinked,
+     * and a node that drops below half capacity is merged with its successor when they fit together.
+     *
+     * @param node the node holding the element
+     * @param offset the offset of the element inside the node
+     * @return the removed element
+     */
+    private E removeAt(UnrolledNode node, int offset){
+        E el = node.remove(offset);
+        size--;
+        if(node.count == 0){
+            unlink(node);
+        } else if(node.count < (nodeCapacity >> 1) && node.next != null
+                && node.count + node.next.count <= nodeCapacity){
+            UnrolledNode next = node.next;
+            next.moveTailTo(node, 0);
+            unlink(next);
+        }
+        return el;
+    }
+
+    /**
+     * Returns the node containing the element at the specified index, together with the offset
+     * of the element inside that node.
+     * Like {@link CustomLinkedList}, it walks from the head if the index is in the first half
+     * and from the tail otherwise, but each step skips a whole node.
+     *
+     * @param index the index of the element
+     * @return the position of the element
+     * @throws IndexOutOfBoundsException if the index is out of range (index < 0 || index >= size)
+     */
+    private Position locate(int index){
+        if(index < 0 || index >= size){
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+        }
+        if(index < (size >> 1)){
+            UnrolledNode search = head;
+            int first = 0;
+            while(index >= first + search.count){
+                first += search.count;
+                search = search.next;
+            }
+            return new Position(search, index - first);
+        } else{
+            UnrolledNode search = tail;
+            int first = size - search.count;
+            while(index < first){
+                search = search.prev;
+                first -= search.count;
+            }
+            return new Position(search, index - first);
+        }
+    }
+
+    /**
+     * Links a new empty node before the given node, or as the only node if it is null.
+     *
+     * @param succ the node to link before
+     * @return the new node
+     */
+    private UnrolledNode linkBefore(UnrolledNode succ){
+        UnrolledNode newNode = new UnrolledNode(nodeCapacity);
+        if(succ == null){
+            head = tail = newNode;
+        } else{
+            newNode.next = succ;
+            newNode.prev = succ.prev;
+            if(succ.prev == null){
+                head = newNode;
+            } else{
+                succ.prev.next = newNode;
+            }
+            succ.prev = newNode;
+        }
+        return newNode;
+    }
+
+    /**
+     * Links a new empty node after the given node, or as the only node if it is null.
+     *
+     * @param pred the node to link after
+     * @return the new node
+     */
+    private UnrolledNode linkAfter(UnrolledNode pred){
+        UnrolledNode newNode = new UnrolledNode(nodeCapacity);
+        if(pred == null){
+            head = tail = newNode;
+        } else{
+            newNode.prev = pred;
+            newNode.next = pred.next;
+            if(pred.next == null){
+                tail = newNode;
+            } else{
+                pred.next.prev = newNode;
+            }
+            pred.next = newNode;
+        }
+        return newNode;
+    }
+
+    /**
+     * Unlinks the given node from the chain.
+     *
+     * @param node the node to unlink
+     */
+    private void unlink(UnrolledNode node){
+        UnrolledNode prev = node.prev;
+        UnrolledNode next = node.next;
+        if(prev == null){
+            head = next;
+        } else{
+            prev.next = next;
+        }
+        if(next == null){
+            tail = prev;
+        } else{
+            next.prev = prev;
+        }
+        node.prev = node.next = null;
+    }
+
+    /**
+     * The node holding an element and the offset of the element inside it, as found by {@link #locate}.
+     */
+    private final class Position {
+        private final UnrolledNode node;
+        private final int offset;
+
+        Position(UnrolledNode node, int offset){
+            this.node = node;
+            this.offset = offset;
+        }
+    }
+
+    /**
+     * A node of the unrolled list. It stores up to {@code elements.length} elements
+     * in the leading {@code count} slots of its array.
+     */
+    private final class UnrolledNode {
+        private final Object[] elements;
+        private int count;
+        private UnrolledNode next;
+        private UnrolledNode prev;
+
+        UnrolledNode(int capacity){
+            this.elements = new Object[capacity];
+        }
+
+        @SuppressWarnings("unchecked")
+        E get(int offset){
+            return (E) elements[offset];
+        }
+
+        void insert(int offset, E e){
+            System.arraycopy(elements, offset, elements, offset + 1, count - offset);
+            elements[offset] = e;
+            count++;
+        }
+
+        E remove(int offset){
+            E el = get(offset);
+            System.arraycopy(elements, offset + 1, elements, offset, count - offset - 1);
+            elements[--count] = null;
+            return el;
+        }
+
+        /**
+         * Moves the elements starting at {@code from} to the end of the target node.
+         *
+         * @param target the node receiving the elements
+         * @param from the offset of the first element to move
+         */
+        void moveTailTo(UnrolledNode target, int from){
+            int moved = count - from;
+            System.arraycopy(elements, from, target.elements, target.count, moved);
+            for(int i = from; i < count; i++){
+                elements[i] = null;
+            }
+            target.count += moved;
+            count = from;
+        }
+    }
+}
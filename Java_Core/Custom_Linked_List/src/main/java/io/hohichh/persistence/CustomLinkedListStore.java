@@ -0,0 +1,141 @@
+package io.hohichh.persistence;
+
+import io.hohichh.CustomLinkedList;
+
+import java.io.IOException;
+import java.lang.foreign.Arena;
+import java.lang.foreign.MemorySegment;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * Saves a {@link CustomLinkedList} to a compact binary file and maps it back into memory.
+ * <p>
+ * The file starts with a fixed header, followed by an offset table and the encoded elements.
+ * All numbers are big-endian:
+ * <pre>
+ *   int   magic ("CLL1")
+ *   int   format version
+ *   int   record size, or -1 when the codec has no fixed size
+ *   int   element count
+ *   long  offset of the first record
+ *   long[count + 1]  record offsets, present only when the record size is -1
+ *   records
+ * </pre>
+ * Since the element count is known up front, the offset table and the records are both written
+ * during one pass over the list, each through its own buffer. Reading maps the whole file and
+ * decodes an element only when it is accessed.
+ */
+public final class CustomLinkedListStore {
+    static final int MAGIC = 0x434C4C31;
+    static final int VERSION = 1;
+    static final int HEADER_BYTES = 24;
+    private static final int BUFFER_BYTES = 1 << 16;
+
+    private CustomLinkedListStore(){
+    }
+
+    /**
+     * Writes the list to the file, replacing any existing content.
+     *
+     * @param list the list to write
+     * @param codec the codec encoding the elements
+     * @param file the target file
+     * @param <E> the type of the elements
+     * @throws IOException if the file cannot be written
+     * @throws IllegalStateException if the codec writes a different number of bytes than it reports
+     */
+    public static <E> void write(CustomLinkedList<E> list, ElementCodec<E> codec, Path file) throws IOException {
+        int count = list.size();
+        int recordSize = codec.fixedSize();
+        boolean withTable = recordSize < 0;
+        long dataStart = HEADER_BYTES + (withTable ? (count + 1L) * Long.BYTES : 0);
+
+        try(FileChannel channel = FileChannel.open(file, StandardOpenOption.CREATE,
+                StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE)){
+            ByteBuffer header = ByteBuffer.allocate(HEADER_BYTES);
+            header.putInt(MAGIC).putInt(VERSION).putInt(recordSize).putInt(count).putLong(dataStart);
+            flush(channel, header, 0);
+
+            ByteBuffer table = withTable ? ByteBuffer.allocateDirect(BUFFER_BYTES) : null;
+            ByteBuffer data = ByteBuffer.allocateDirect(BUFFER_BYTES);
+            long tablePosition = HEADER_BYTES;
+            long dataPosition = dataStart;
+            long offset = dataStart;
+
+            for(E e : list){
+                int length = codec.encodedSize(e);
+                if(withTable){
+                    if(!table.hasRemaining()){
+                        tablePosition += flush(channel, table, tablePosition);
+                    }
+                    table.putLong(offset);
+                }
+                if(length > data.remaining()){
+                    dataPosition += flush(channel, data, dataPosition);
+                    if(length > data.capacity()){
+                        data = ByteBuffer.allocateDirect(length);
+                    }
+                }
+                int start = data.position();
+                codec.encode(e, data);
+                if(data.position() - start != length){
+                    throw new IllegalStateException("Codec wrote " + (data.position() - start)
+                            + " bytes but reported " + length);
+                }
+                offset += length;
+            }
+            if(withTable){
+                if(!table.hasRemaining()){
+                    tablePosition += flush(channel, table, tablePosition);
+                }
+                table.putLong(offset);
+                flush(channel, table, tablePosition);
+            }
+            flush(channel, data, dataPosition);
+        }
+    }
+
+    /**
+     * Maps a file written by {@link #write} into memory. No element is decoded until it is accessed.
+     * The returned list keeps the mapping until it is closed.
+     *
+     * @param file the file to map
+     * @param codec the codec decoding the elements
+     * @param <E> the type of the elements
+     * @return a read-only view of the stored list
+     * @throws IOException if the file cannot be read or is not in the expected format
+     */
+    public static <E> MappedCustomLinkedList<E> map(Path file, ElementCodec<E> codec) throws IOException {
+        Arena arena = Arena.ofShared();
+        try(FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)){
+            MemorySegment segment = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size(), arena);
+            return new MappedCustomLinkedList<>(segment, arena, codec);
+        } catch(IOException | RuntimeException e){
+            arena.close();
+            throw e;
+        }
+    }
+
+    /**
+     * Writes the written part of the buffer at the given file position and clears the buffer.
+     *
+     * @param channel the channel to write to
+     * @param buffer the buffer holding the bytes, in write mode
+     * @param position the file position of the first byte
+     * @return the number of bytes written
+     * @throws IOException if an I/O error occurs
+     */
+    private static int flush(FileChannel channel, ByteBuffer buffer, long position) throws IOException {
+        buffer.flip();
+        int written = buffer.remaining();
+        long at = position;
+        while(buffer.hasRemaining()){
+            at += channel.write(buffer, at);
+        }
+        buffer.clear();
+        return written;
+    }
+}
@@ -0,0 +1,48 @@
+package io.hohichh.persistence;
+
+import java.nio.ByteBuffer;
+
+/**
+ * Converts list elements to and from their binary form in a {@link CustomLinkedListStore} file.
+ * Codecs whose records all have the same length report it through {@link #fixedSize()},
+ * which lets the file skip the per-element offset table.
+ *
+ * @param <E> the type of elements handled by this codec
+ */
+public interface ElementCodec<E> {
+
+    /**
+     * Returns the length of every encoded element, or {@code -1} if the length varies.
+     *
+     * @return the fixed record length in bytes, or {@code -1}
+     */
+    default int fixedSize(){
+        return -1;
+    }
+
+    /**
+     * Returns the number of bytes {@link #encode} will write for the element.
+     *
+     * @param e the element to measure
+     * @return the encoded length in bytes
+     */
+    int encodedSize(E e);
+
+    /**
+     * Writes the element at the current position of the buffer, which has at least
+     * {@link #encodedSize} bytes remaining.
+     *
+     * @param e the element to write
+     * @param out the buffer to write to
+     */
+    void encode(E e, ByteBuffer out);
+
+    /**
+     * Reads an element from the buffer. The buffer holds exactly one record,
+     * from its position to its limit.
+     *
+     * @param in the buffer holding the record
+     * @return the decoded element
+     */
+    E decode(ByteBuffer in);
+}
@@ -0,0 +1,154 @@
+package io.hohichh.persistence;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Codecs for common element types. None of them supports {@code null} elements.
+ */
+public final class ElementCodecs {
+
+    private ElementCodecs(){
+    }
+
+    /**
+     * Returns a codec storing every {@link Long} in 8 bytes.
+     *
+     * @return the codec
+     */
+    public static ElementCodec<Long> longs(){
+        return new ElementCodec<>(){
+            @Override
+            public int fixedSize(){
+                return Long.BYTES;
+            }
+
+            @Override
+            public int encodedSize(Long e){
+                return Long.BYTES;
+            }
+
+            @Override
+            public void encode(Long e, ByteBuffer out){
+                out.putLong(e);
+            }
+
+            @Override
+            public Long decode(ByteBuffer in){
+                return in.getLong();
+            }
+        };
+    }
+
+    /**
+     * Returns a codec storing every {@link Integer} in 4 bytes.
+     *
+     * @return the codec
+     */
+    public static ElementCodec<Integer> integers(){
+        return new ElementCodec<>(){
+            @Override
+            public int fixedSize(){
+                return Integer.BYTES;
+            }
+
+            @Override
+            public int encodedSize(Integer e){
+                return Integer.BYTES;
+            }
+
+            @Override
+            public void encode(Integer e, ByteBuffer out){
+                out.putInt(e);
+            }
+
+            @Override
+            public Integer decode(ByteBuffer in){
+                return in.getInt();
+            }
+        };
+    }
+
+    /**
+     * Returns a codec storing every {@link Double} in 8 bytes.
+     *
+     * @return the codec
+     */
+    public static ElementCodec<Double> doubles(){
+        return new ElementCodec<>(){
+            @Override
+            public int fixedSize(){
+                return Double.BYTES;
+            }
+
+            @Override
+            public int encodedSize(Double e){
+                return Double.BYTES;
+            }
+
+            @Override
+            public void encode(Double e, ByteBuffer out){
+                out.putDouble(e);
+            }
+
+            @Override
+            public Double decode(ByteBuffer in){
+                return in.getDouble();
+            }
+        };
+    }
+
+    /**
+     * Returns a codec storing strings as UTF-8 bytes. Record boundaries come from the offset table,
+     * so no length prefix is written.
+     *
+     * @return the codec
+     */
+    public static ElementCodec<String> strings(){
+        return new ElementCodec<>(){
+            @Override
+            public int encodedSize(String e){
+                return utf8Length(e);
+            }
+
+            @Override
+            public void encode(String e, ByteBuffer out){
+                out.put(e.getBytes(StandardCharsets.UTF_8));
+            }
+
+            @Override
+            public String decode(ByteBuffer in){
+                byte[] bytes = new byte[in.remaining()];
+                in.get(bytes);
+                return new String(bytes, StandardCharsets.UTF_8);
+            }
+        };
+    }
+
+    /**
+     * Counts the bytes of the UTF-8 form of the string without encoding it.
+     * Unpaired surrogates count as one byte, matching the replacement done by {@link String#getBytes}.
+     *
+     * @param s the string to measure
+     * @return the length of its UTF-8 encoding
+     */
+    private static int utf8Length(String s){
+        int length = 0;
+        for(int i = 0; i < s.length(); i++){
+            char c = s.charAt(i);
+            if(c < 0x80){
+                length += 1;
+            } else if(c < 0x800){
+                length += 2;
+            } else if(Character.isHighSurrogate(c) && i + 1 < s.length() && Character.isLowSurrogate(s.charAt(i + 1))){
+                length += 4;
+                i++;
+            } else if(Character.isSurrogate(c)){
+                length += 1;
+            } else{
+                length += 3;
+            }
+        }
+        return length;
+    }
+}
@@ -0,0 +1,134 @@
+package io.hohichh.persistence;
+
+import io.hohichh.CustomLinkedList;
+
+import java.io.IOException;
+import java.lang.foreign.Arena;
+import java.lang.foreign.MemorySegment;
+import java.lang.foreign.ValueLayout;
+import java.nio.ByteOrder;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+/**
+ * A read-only list backed by a memory-mapped file written by {@link CustomLinkedListStore}.
+ * Opening it only reads the header. Each element is decoded from the mapping when accessed,
+ * and decoded elements are not cached. Closing the list unmaps the file, after which any
+ * access throws {@link IllegalStateException}.
+ *
+ * @param <E> the type of elements held in this list
+ */
+public class MappedCustomLinkedList<E> implements Iterable<E>, AutoCloseable {
+    private static final ValueLayout.OfInt INT =
+            ValueLayout.JAVA_INT_UNALIGNED.withOrder(ByteOrder.BIG_ENDIAN);
+    private static final ValueLayout.OfLong LONG =
+            ValueLayout.JAVA_LONG_UNALIGNED.withOrder(ByteOrder.BIG_ENDIAN);
+
+    private final MemorySegment segment;
+    private final Arena arena;
+    private final ElementCodec<E> codec;
+    private final int size;
+    private final int recordSize;
+    private final long dataStart;
+
+    MappedCustomLinkedList(MemorySegment segment, Arena arena, ElementCodec<E> codec) throws IOException {
+        if(segment.byteSize() < CustomLinkedListStore.HEADER_BYTES
+                || segment.get(INT, 0) != CustomLinkedListStore.MAGIC){
+            throw new IOException("Not a CustomLinkedList file");
+        }
+        if(segment.get(INT, 4) != CustomLinkedListStore.VERSION){
+            throw new IOException("Unsupported format version: " + segment.get(INT, 4));
+        }
+        this.segment = segment;
+        this.arena = arena;
+        this.codec = codec;
+        this.recordSize = segment.get(INT, 8);
+        this.size = segment.get(INT, 12);
+        this.dataStart = segment.get(LONG, 16);
+        if(recordSize != codec.fixedSize()){
+            throw new IOException("File record size " + recordSize
+                    + " does not match codec size " + codec.fixedSize());
+        }
+    }
+
+    /**
+     * Returns the number of elements in this list.
+     *
+     * @return the number of elements in this list
+     */
+    public int size(){
+        return size;
+    }
+
+    /**
+     * Decodes and returns the element at the specified position in this list.
+     *
+     * @param index index of the element to return
+     * @return the element at the specified position in this list
+     * @throws IndexOutOfBoundsException if the index is out of range (index < 0 || index >= size)
+     */
+    public E get(int index){
+        if(index < 0 || index >= size){
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+        }
+        long offset;
+        long length;
+        if(recordSize >= 0){
+            offset = dataStart + (long) index * recordSize;
+            length = recordSize;
+        } else{
+            long entry = CustomLinkedListStore.HEADER_BYTES + (long) index * Long.BYTES;
+            offset = segment.get(LONG, entry);
+            length = segment.get(LONG, entry + Long.BYTES) - offset;
+        }
+        return codec.decode(segment.asSlice(offset, length).asByteBuffer());
+    }
+
+    /**
+     * Returns an iterator decoding the elements in order.
+     *
+     * @return an iterator over the elements in this list
+     */
+    @Override
+    public Iterator<E> iterator(){
+        return new Iterator<>(){
+            private int next;
+
+            @Override
+            public boolean hasNext(){
+                return next < size;
+            }
+
+            @Override
+            public E next(){
+                if(!hasNext()){
+                    throw new NoSuchElementException();
+                }
+                return get(next++);
+            }
+        };
+    }
+
+    /**
+     * Decodes all elements into a new {@link CustomLinkedList}.
+     *
+     * @return a mutable copy of this list
+     */
+    public CustomLinkedList<E> toCustomLinkedList(){
+        CustomLinkedList<E> list = new CustomLinkedList<>();
+        for(E e : this){
+            list.addLast(e);
+        }
+        return list;
+    }
+
+    /**
+     * Unmaps the file. Calling it more than once has no effect.
+     */
+    @Override
+    public void close(){
+        if(arena.scope().isAlive()){
+            arena.close();
+        }
+    }
+}
@@ -0,0 +1,186 @@
+package io.hohichh;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class BlockingCustomLinkedListTest {
+
+    private BlockingCustomLinkedList<Integer> queue;
+
+    @BeforeEach
+    void setUp() {
+        queue = new BlockingCustomLinkedList<>(3);
+    }
+
+    @Test
+    @DisplayName("constructor with a non-positive capacity should throw IllegalArgumentException")
+    void testConstructor_withNonPositiveCapacity_shouldThrowException() {
+        assertThrows(IllegalArgumentException.class, () -> new BlockingCustomLinkedList<Integer>(0));
+    }
+
+    @Test
+    @DisplayName("offer() should respect the capacity and keep FIFO order")
+    void testOffer_shouldRespectCapacityAndOrder() {
+        assertTrue(queue.offer(1));
+        assertTrue(queue.offer(2));
+        assertTrue(queue.offer(3));
+        assertFalse(queue.offer(4));
+        assertEquals(3, queue.size());
+        assertEquals(0, queue.remainingCapacity());
+        assertEquals(1, queue.getFirst());
+        assertEquals(1, queue.poll());
+        assertEquals(2, queue.poll());
+        assertEquals(3, queue.poll());
+        assertNull(queue.poll());
+        assertThrows(NoSuchElementException.class, () -> queue.getFirst());
+        assertThrows(NullPointerException.class, () -> queue.offer(null));
+    }
+
+    @Test
+    @DisplayName("timed offer() and poll() should give up after the timeout")
+    void testTimedOfferAndPoll_shouldTimeOut() throws InterruptedException {
+        assertNull(queue.poll(10, TimeUnit.MILLISECONDS));
+        queue.put(1);
+        queue.put(2);
+        queue.put(3);
+        assertFalse(queue.offer(4, 10, TimeUnit.MILLISECONDS));
+        assertEquals(1, queue.poll(10, TimeUnit.MILLISECONDS));
+        assertTrue(queue.offer(4, 10, TimeUnit.MILLISECONDS));
+    }
+
+    @Test
+    @DisplayName("put() on a full queue should block until take() frees space")
+    void testPut_onFullQueue_shouldBlockUntilTake() throws Exception {
+        queue.put(1);
+        queue.put(2);
+        queue.put(3);
+        ExecutorService pool = Executors.newSingleThreadExecutor();
+        try {
+            Future<?> producer = pool.submit(() -> {
+                queue.put(4);
+                return null;
+            });
+            Thread.sleep(50);
+            assertFalse(producer.isDone());
+            assertEquals(1, queue.take());
+            producer.get(5, TimeUnit.SECONDS);
+            assertEquals(3, queue.size());
+        } finally {
+            pool.shutdownNow();
+        }
+    }
+
+    @Test
+    @DisplayName("drainTo() should move at most maxElements in FIFO order")
+    void testDrainTo_shouldMoveElementsInOrder() {
+        BlockingCustomLinkedList<Integer> big = new BlockingCustomLinkedList<>();
+        for (int i = 0; i < 10; i++) {
+            big.offer(i);
+        }
+        List<Integer> drained = new ArrayList<>();
+        assertEquals(4, big.drainTo(drained, 4));
+        assertEquals(List.of(0, 1, 2, 3), drained);
+        assertEquals(6, big.size());
+        assertEquals(4, big.getFirst());
+        assertEquals(0, big.drainTo(drained, 0));
+        assertEquals(6, big.drainTo(drained));
+        assertEquals(10, drained.size());
+        assertEquals(9, drained.get(9));
+        assertEquals(0, big.drainTo(drained));
+        big.offer(10);
+        assertEquals(10, big.poll());
+    }
+
+    @Test
+    @DisplayName("drainTo() should keep the elements a throwing collection did not accept")
+    void testDrainTo_whenCollectionThrows_shouldKeepRemainingElements() {
+        BlockingCustomLinkedList<Integer> big = new BlockingCustomLinkedList<>();
+        for (int i = 0; i < 5; i++) {
+            big.offer(i);
+        }
+        List<Integer> drained = new ArrayList<>() {
+            @Override
+            public boolean add(Integer e) {
+                if (size() == 2) {
+                    throw new IllegalStateException("full");
+                }
+                return super.add(e);
+            }
+        };
+        assertThrows(IllegalStateException.class, () -> big.drainTo(drained));
+        assertEquals(List.of(0, 1), drained);
+        assertEquals(3, big.size());
+        for (int i = 2; i < 5; i++) {
+            assertEquals(i, big.poll());
+        }
+        assertNull(big.poll());
+    }
+
+    @Test
+    @DisplayName("concurrent producers and a draining consumer should transfer every element once in order")
+    void testConcurrentProducersAndDrainingConsumer_shouldTransferEveryElement() throws Exception {
+        BlockingCustomLinkedList<Integer> buffer = new BlockingCustomLinkedList<>(64);
+        int producers = 4;
+        int perProducer = 20_000;
+        ExecutorService pool = Executors.newFixedThreadPool(producers + 1);
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int p = 0; p < producers; p++) {
+                int base = p * perProducer;
+                futures.add(pool.submit(() -> {
+                    for (int i = 0; i < perProducer; i++) {
+                        if ((i & 1) == 0) {
+                            buffer.put(base + i);
+                        } else {
+                            assertTrue(buffer.offer(base + i, 10, TimeUnit.SECONDS));
+                        }
+                    }
+                    return null;
+                }));
+            }
+            Future<int[]> consumer = pool.submit(() -> {
+                int[] lastSeen = new int[producers];
+                Arrays.fill(lastSeen, -1);
+                List<Integer> batch = new ArrayList<>();
+                int received = 0;
+                while (received < producers * perProducer) {
+                    batch.clear();
+                    if (buffer.drainTo(batch, 32) == 0) {
+                        Integer e = buffer.poll(10, TimeUnit.SECONDS);
+                        assertNotNull(e);
+                        batch.add(e);
+                    }
+                    for (int value : batch) {
+                        int producer = value / perProducer;
+                        assertTrue(value % perProducer > lastSeen[producer]);
+                        lastSeen[producer] = value % perProducer;
+                    }
+                    received += batch.size();
+                }
+                return lastSeen;
+            });
+            for (Future<?> future : futures) {
+                future.get(60, TimeUnit.SECONDS);
+            }
+            int[] lastSeen = consumer.get(60, TimeUnit.SECONDS);
+            for (int last : lastSeen) {
+                assertEquals(perProducer - 1, last);
+            }
+        } finally {
+            pool.shutdownNow();
+        }
+        assertEquals(0, buffer.size());
+    }
+}
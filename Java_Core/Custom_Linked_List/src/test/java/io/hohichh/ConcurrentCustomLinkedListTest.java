@@ -0,0 +1,248 @@
+package io.hohichh;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.lang.management.ManagementFactory;
+import java.nio.file.Path;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Random;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ConcurrentCustomLinkedListTest {
+
+    private static final int THREADS = Math.max(4, Runtime.getRuntime().availableProcessors());
+    private static final int PER_PRODUCER = 50_000;
+
+    private ConcurrentCustomLinkedList<Integer> deque;
+
+    @BeforeEach
+    void setUp() {
+        deque = new ConcurrentCustomLinkedList<>();
+    }
+
+    @Test
+    @DisplayName("operations on an empty deque should throw or return null")
+    void testOperations_onEmptyDeque_shouldThrowOrReturnNull() {
+        assertTrue(deque.isEmpty());
+        assertThrows(NoSuchElementException.class, () -> deque.getFirst());
+        assertThrows(NoSuchElementException.class, () -> deque.getLast());
+        assertThrows(NoSuchElementException.class, () -> deque.removeFirst());
+        assertThrows(NoSuchElementException.class, () -> deque.removeLast());
+        assertNull(deque.pollFirst());
+        assertNull(deque.pollLast());
+        assertThrows(NullPointerException.class, () -> deque.addLast(null));
+    }
+
+    @Test
+    @DisplayName("single-threaded random operations should behave like java.util.ArrayDeque")
+    void testRandomOperations_shouldMatchArrayDeque() {
+        ArrayDeque<Integer> reference = new ArrayDeque<>();
+        Random random = new Random(13);
+        for (int step = 0; step < 20_000; step++) {
+            int op = random.nextInt(6);
+            if (op == 0) {
+                deque.addFirst(step);
+                reference.addFirst(step);
+            } else if (op == 1) {
+                deque.addLast(step);
+                reference.addLast(step);
+            } else if (op == 2) {
+                assertEquals(reference.pollFirst(), deque.pollFirst());
+            } else if (op == 3) {
+                assertEquals(reference.pollLast(), deque.pollLast());
+            } else if (!reference.isEmpty()) {
+                assertEquals(reference.getFirst(), deque.getFirst());
+                assertEquals(reference.getLast(), deque.getLast());
+            }
+            assertEquals(reference.isEmpty(), deque.isEmpty());
+        }
+    }
+
+    @Test
+    @DisplayName("a long FIFO workload on a never-empty deque should run in a small heap")
+    void testFifoWorkload_inBoundedHeap_shouldNotRetainRemovedElements() throws Exception {
+        List<String> command = new ArrayList<>();
+        command.add(Path.of(System.getProperty("java.home"), "bin", "java").toString());
+        command.add("-Xmx32m");
+        for (String argument : ManagementFactory.getRuntimeMXBean().getInputArguments()) {
+            if (argument.startsWith("--enable-preview") || argument.startsWith("--add-modules")) {
+                command.add(argument);
+            }
+        }
+        command.add("-cp");
+        command.add(System.getProperty("java.class.path"));
+        command.add(FifoWorkload.class.getName());
+        Process process = new ProcessBuilder(command).redirectErrorStream(true).start();
+        String output = new String(process.getInputStream().readAllBytes());
+        assertTrue(process.waitFor(60, TimeUnit.SECONDS));
+        assertEquals(0, process.exitValue(), output);
+    }
+
+    /**
+     * Moves 200 MiB through a deque that always holds one element, first from right to left
+     * and then from left to right. Run with -Xmx32m, it fails if removed nodes stay reachable.
+     */
+    static class FifoWorkload {
+
+        public static void main(String[] args) {
+            ConcurrentCustomLinkedList<byte[]> deque = new ConcurrentCustomLinkedList<>();
+            deque.addLast(new byte[1024]);
+            for (int i = 0; i < 100_000; i++) {
+                deque.addLast(new byte[1024]);
+                deque.removeFirst();
+            }
+            for (int i = 0; i < 100_000; i++) {
+                deque.addFirst(new byte[1024]);
+                deque.removeLast();
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("concurrent pushes and pops at both ends should hand out every element exactly once")
+    void testConcurrentBothEnds_shouldConsumeEveryElementExactlyOnce() throws Exception {
+        int producers = THREADS / 2;
+        int consumers = THREADS - producers;
+        int total = producers * PER_PRODUCER;
+        AtomicIntegerArray seen = new AtomicIntegerArray(total);
+        AtomicInteger consumed = new AtomicInteger();
+        CountDownLatch start = new CountDownLatch(1);
+        ExecutorService pool = Executors.newFixedThreadPool(THREADS);
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int p = 0; p < producers; p++) {
+                int base = p * PER_PRODUCER;
+                futures.add(pool.submit(() -> {
+                    start.await();
+                    for (int i = 0; i < PER_PRODUCER; i++) {
+                        if ((i & 1) == 0) {
+                            deque.addLast(base + i);
+                        } else {
+                            deque.addFirst(base + i);
+                        }
+                    }
+                    return null;
+                }));
+            }
+            for (int c = 0; c < consumers; c++) {
+                boolean fromFront = (c & 1) == 0;
+                futures.add(pool.submit(() -> {
+                    start.await();
+                    while (consumed.get() < total) {
+                        Integer value = fromFront ? deque.pollFirst() : deque.pollLast();
+                        if (value != null) {
+                            seen.incrementAndGet(value);
+                            consumed.incrementAndGet();
+                        }
+                    }
+                    return null;
+                }));
+            }
+            start.countDown();
+            for (Future<?> future : futures) {
+                future.get(60, TimeUnit.SECONDS);
+            }
+        } finally {
+            pool.shutdownNow();
+        }
+        assertTrue(deque.isEmpty());
+        for (int i = 0; i < total; i++) {
+            assertEquals(1, seen.get(i), "element " + i);
+        }
+    }
+
+    @Test
+    @DisplayName("used as a FIFO queue, consumers should see each producer's elements in order")
+    void testConcurrentQueue_shouldPreservePerProducerOrder() throws Exception {
+        int producers = THREADS / 2;
+        int consumers = THREADS - producers;
+        int total = producers * PER_PRODUCER;
+        AtomicInteger consumed = new AtomicInteger();
+        CountDownLatch start = new CountDownLatch(1);
+        ExecutorService pool = Executors.newFixedThreadPool(THREADS);
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int p = 0; p < producers; p++) {
+                int base = p * PER_PRODUCER;
+                futures.add(pool.submit(() -> {
+                    start.await();
+                    for (int i = 0; i < PER_PRODUCER; i++) {
+                        deque.addLast(base + i);
+                    }
+                    return null;
+                }));
+            }
+            for (int c = 0; c < consumers; c++) {
+                futures.add(pool.submit(() -> {
+                    int[] lastSeen = new int[producers];
+                    Arrays.fill(lastSeen, -1);
+                    start.await();
+                    while (consumed.get() < total) {
+                        Integer value = deque.pollFirst();
+                        if (value != null) {
+                            int producer = value / PER_PRODUCER;
+                            int sequence = value % PER_PRODUCER;
+                            assertTrue(sequence > lastSeen[producer], "out of order: " + value);
+                            lastSeen[producer] = sequence;
+                            consumed.incrementAndGet();
+                        }
+                    }
+                    return null;
+                }));
+            }
+            start.countDown();
+            for (Future<?> future : futures) {
+                future.get(60, TimeUnit.SECONDS);
+            }
+        } finally {
+            pool.shutdownNow();
+        }
+        assertEquals(total, consumed.get());
+        assertTrue(deque.isEmpty());
+    }
+
+    @Test
+    @DisplayName("used as a stack from many threads, the deque should lose no elements")
+    void testConcurrentStack_shouldLoseNoElements() throws Exception {
+        AtomicInteger sum = new AtomicInteger();
+        CountDownLatch start = new CountDownLatch(1);
+        ExecutorService pool = Executors.newFixedThreadPool(THREADS);
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int t = 0; t < THREADS; t++) {
+                futures.add(pool.submit(() -> {
+                    start.await();
+                    for (int i = 0; i < PER_PRODUCER; i++) {
+                        deque.addLast(1);
+                        Integer value = deque.pollLast();
+                        assertNotNull(value);
+                        sum.addAndGet(value);
+                    }
+                    return null;
+                }));
+            }
+            start.countDown();
+            for (Future<?> future : futures) {
+                future.get(60, TimeUnit.SECONDS);
+            }
+        } finally {
+            pool.shutdownNow();
+        }
+        assertEquals(THREADS * PER_PRODUCER, sum.get());
+        assertTrue(deque.isEmpty());
+    }
+}
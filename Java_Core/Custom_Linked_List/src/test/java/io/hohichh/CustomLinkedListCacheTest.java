@@ -0,0 +1,150 @@
+package io.hohichh;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CustomLinkedListCacheTest {
+
+    @Test
+    @DisplayName("LRU cache should evict the least recently used entry")
+    void testLru_shouldEvictLeastRecentlyUsed() {
+        CustomLinkedListCache<String, Integer> cache = new CustomLinkedListCache<>(2);
+        cache.put("A", 1);
+        cache.put("B", 2);
+        assertEquals(1, cache.get("A"));
+        cache.put("C", 3);
+
+        assertFalse(cache.containsKey("B"));
+        assertEquals(1, cache.get("A"));
+        assertEquals(3, cache.get("C"));
+        assertNull(cache.get("B"));
+        assertEquals(2, cache.size());
+        assertEquals(1, cache.evictionCount());
+        assertEquals(3, cache.hitCount());
+        assertEquals(1, cache.missCount());
+    }
+
+    @Test
+    @DisplayName("put() on a cached key should replace the value and refresh the entry")
+    void testPut_existingKey_shouldReplaceValueAndRefresh() {
+        CustomLinkedListCache<String, Integer> cache = new CustomLinkedListCache<>(2);
+        cache.put("A", 1);
+        cache.put("B", 2);
+        cache.put("A", 10);
+        cache.put("C", 3);
+        assertEquals(10, cache.get("A"));
+        assertNull(cache.get("B"));
+        assertEquals(0, cache.rejectionCount());
+    }
+
+    @Test
+    @DisplayName("remove() should drop the entry and free its slot")
+    void testRemove_shouldDropEntry() {
+        CustomLinkedListCache<String, Integer> cache = new CustomLinkedListCache<>(2);
+        cache.put("A", 1);
+        cache.put("B", 2);
+        assertEquals(1, cache.remove("A"));
+        assertNull(cache.remove("A"));
+        cache.put("C", 3);
+        assertEquals(0, cache.evictionCount());
+        assertEquals(2, cache.size());
+        assertThrows(NullPointerException.class, () -> cache.put(null, 1));
+        assertThrows(NullPointerException.class, () -> cache.put("D", null));
+        assertThrows(IllegalArgumentException.class, () -> new CustomLinkedListCache<String, Integer>(0));
+    }
+
+    @Test
+    @DisplayName("LRU cache should behave like an access-ordered LinkedHashMap")
+    void testLru_randomOperations_shouldMatchLinkedHashMap() {
+        int capacity = 50;
+        CustomLinkedListCache<Integer, Integer> cache = new CustomLinkedListCache<>(capacity);
+        Map<Integer, Integer> reference = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Integer, Integer> eldest) {
+                return size() > capacity;
+            }
+        };
+        Random random = new Random(17);
+        for (int i = 0; i < 20_000; i++) {
+            int key = random.nextInt(200);
+            switch (random.nextInt(3)) {
+                case 0 -> assertEquals(reference.get(key), cache.get(key));
+                case 1 -> {
+                    reference.put(key, i);
+                    cache.put(key, i);
+                }
+                default -> assertEquals(reference.remove(key), cache.remove(key));
+            }
+            assertEquals(reference.size(), cache.size());
+        }
+    }
+
+    @Test
+    @DisplayName("LFU admission should keep frequently used keys when one-off keys arrive")
+    void testLfu_shouldProtectFrequentKeys() {
+        CustomLinkedListCache<String, Integer> cache = new CustomLinkedListCache<>(2, AdmissionPolicy.lfu(1000));
+        cache.put("hot", 1);
+        for (int i = 0; i < 5; i++) {
+            cache.get("hot");
+        }
+        cache.put("warm", 2);
+        cache.get("warm");
+        cache.get("hot");
+        assertFalse(cache.put("once", 3));
+        assertTrue(cache.containsKey("warm"));
+        assertEquals(1, cache.rejectionCount());
+
+        cache.get("new");
+        cache.get("new");
+        assertTrue(cache.put("new", 4));
+        assertFalse(cache.containsKey("warm"));
+        assertTrue(cache.containsKey("hot"));
+    }
+
+    @Test
+    @DisplayName("LFU admission should age counts so that old popularity fades")
+    void testLfu_aging_shouldHalveCounts() {
+        LfuAdmissionPolicy<String> policy = new LfuAdmissionPolicy<>(4);
+        policy.recordAccess("A");
+        policy.recordAccess("A");
+        policy.recordAccess("A");
+        assertEquals(3, policy.frequency("A"));
+        policy.recordAccess("B");
+        assertEquals(1, policy.frequency("A"));
+        assertEquals(0, policy.frequency("B"));
+    }
+
+    @Test
+    @DisplayName("TinyLFU admission should estimate frequencies and reject colder candidates")
+    void testTinyLfu_shouldRejectColderCandidates() {
+        TinyLfuAdmissionPolicy<Integer> sketch = new TinyLfuAdmissionPolicy<>(100);
+        for (int i = 0; i < 20; i++) {
+            sketch.recordAccess(7);
+        }
+        sketch.recordAccess(8);
+        assertEquals(15, sketch.frequency(7));
+        assertTrue(sketch.frequency(8) >= 1);
+        assertFalse(sketch.admit(8, 7));
+        assertTrue(sketch.admit(7, 8));
+
+        CustomLinkedListCache<Integer, Integer> cache = new CustomLinkedListCache<>(10, AdmissionPolicy.tinyLfu(1024));
+        for (int round = 0; round < 5; round++) {
+            for (int key = 0; key < 10; key++) {
+                cache.put(key, key);
+            }
+        }
+        for (int key = 100; key < 200; key++) {
+            cache.put(key, key);
+        }
+        for (int key = 0; key < 10; key++) {
+            assertTrue(cache.containsKey(key));
+        }
+        assertEquals(100, cache.rejectionCount());
+    }
+}
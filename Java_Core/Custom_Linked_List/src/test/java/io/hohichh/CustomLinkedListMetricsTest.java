@@ -0,0 +1,138 @@
+package io.hohichh;
+
+import io.hohichh.CustomLinkedListMetrics.Operation;
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+import javax.management.openmbean.TabularData;
+import java.lang.management.ManagementFactory;
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CustomLinkedListMetricsTest {
+
+    @Test
+    @DisplayName("metrics() should be null until metrics are enabled")
+    void testMetrics_beforeEnabling_shouldBeNull() {
+        CustomLinkedList<String> list = new CustomLinkedList<>();
+        list.addLast("A");
+        assertNull(list.metrics());
+        CustomLinkedListMetrics metrics = list.enableMetrics();
+        assertSame(metrics, list.metrics());
+        assertSame(metrics, list.enableMetrics());
+        assertEquals(1, metrics.getHighWaterSize());
+    }
+
+    @Test
+    @DisplayName("operations should be counted, with positional calls at the ends counted as end operations")
+    void testOperationCounts_shouldFollowOperations() {
+        CustomLinkedList<Integer> list = new CustomLinkedList<>();
+        CustomLinkedListMetrics metrics = list.enableMetrics();
+        for (int i = 0; i < 10; i++) {
+            list.addLast(i);
+        }
+        list.addFirst(-1);
+        list.add(5, 100);
+        list.add(list.size(), 200);
+        list.get(3);
+        list.get(7);
+        list.remove(4);
+        list.remove(0);
+        list.removeLast();
+
+        assertEquals(1, metrics.count(Operation.ADD_FIRST));
+        assertEquals(11, metrics.count(Operation.ADD_LAST));
+        assertEquals(1, metrics.count(Operation.ADD));
+        assertEquals(2, metrics.count(Operation.GET));
+        assertEquals(1, metrics.count(Operation.REMOVE));
+        assertEquals(1, metrics.count(Operation.REMOVE_FIRST));
+        assertEquals(1, metrics.count(Operation.REMOVE_LAST));
+        assertEquals(13, metrics.getHighWaterSize());
+        assertEquals(11, metrics.getOperationCounts().get("ADD_LAST"));
+    }
+
+    @Test
+    @DisplayName("traversal histograms should record walk lengths in log2 buckets")
+    void testTraversalHistogram_shouldBucketWalkLengths() {
+        CustomLinkedList<Integer> list = new CustomLinkedList<>();
+        for (int i = 0; i < 100; i++) {
+            list.addLast(i);
+        }
+        CustomLinkedListMetrics metrics = list.enableMetrics();
+        list.get(0);
+        list.get(1);
+        list.get(40);
+        list.get(41);
+
+        long[] histogram = metrics.traversalHistogram(Operation.GET);
+        assertEquals(CustomLinkedListMetrics.BUCKETS, histogram.length);
+        assertEquals(1, histogram[0]);
+        assertEquals(2, histogram[1]);
+        assertEquals(1, histogram[6]);
+        assertEquals(0, metrics.traversalHistogram(Operation.ADD_LAST).length);
+
+        assertEquals(0, CustomLinkedListMetrics.bucket(0));
+        assertEquals(2, CustomLinkedListMetrics.bucket(3));
+        assertEquals(3, CustomLinkedListMetrics.bucket(4));
+        assertEquals(31, CustomLinkedListMetrics.bucket(Integer.MAX_VALUE));
+
+        metrics.reset();
+        assertEquals(0, metrics.traversalHistogram(Operation.GET)[6]);
+        assertEquals(0, metrics.count(Operation.GET));
+        assertEquals(0, metrics.getHighWaterSize());
+    }
+
+    @Test
+    @DisplayName("registerMBean() should expose the metrics through the platform MBean server")
+    void testRegisterMBean_shouldExposeAttributes() throws Exception {
+        CustomLinkedList<String> list = new CustomLinkedList<>();
+        CustomLinkedListMetrics metrics = list.enableMetrics();
+        list.addAll(List.of("A", "B", "C"));
+        list.get(1);
+        ObjectName name = metrics.registerMBean("metrics-test");
+        MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+        try {
+            assertEquals(3, server.getAttribute(name, "HighWaterSize"));
+            TabularData counts = (TabularData) server.getAttribute(name, "OperationCounts");
+            assertEquals(1L, counts.get(new Object[]{"GET"}).get("value"));
+            assertNotNull(server.getAttribute(name, "TraversalHistograms"));
+        } finally {
+            server.unregisterMBean(name);
+        }
+    }
+
+    @Test
+    @DisplayName("walks should be emitted as JFR events when the event is enabled")
+    void testTraversalEvent_whenEnabled_shouldBeRecorded(@TempDir Path dir) throws Exception {
+        CustomLinkedList<Integer> list = new CustomLinkedList<>();
+        for (int i = 0; i < 20; i++) {
+            list.addLast(i);
+        }
+        list.enableMetrics();
+        Path file = dir.resolve("traversal.jfr");
+        try (Recording recording = new Recording()) {
+            recording.enable(CustomLinkedListTraversalEvent.NAME);
+            recording.start();
+            list.get(5);
+            list.remove(15);
+            recording.stop();
+            recording.dump(file);
+        }
+        List<RecordedEvent> events = RecordingFile.readAllEvents(file).stream()
+                .filter(e -> e.getEventType().getName().equals(CustomLinkedListTraversalEvent.NAME))
+                .toList();
+        assertEquals(2, events.size());
+        assertEquals("GET", events.get(0).getString("operation"));
+        assertEquals(5, events.get(0).getInt("steps"));
+        assertEquals("REMOVE", events.get(1).getString("operation"));
+        assertEquals(15, events.get(1).getInt("index"));
+    }
+}
@@ -4,7 +4,25 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 
+import java.lang.management.ManagementFactory;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.ListIterator;
 import java.util.NoSuchElementException;
+import java.util.Random;
+import java.util.Spliterator;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -276,4 +294,674 @@ class CustomLinkedListTest {
         // This test indirectly checks the getNodeByIndex optimization
         assertEquals("D", list.get(3));
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("constructor with a negative pool capacity should throw IllegalArgumentException")
+    void testConstructor_withNegativePoolCapacity_shouldThrowException() {
+        assertThrows(IllegalArgumentException.class, () -> new CustomLinkedList<String>(-1));
+    }
+
+    @Test
+    @DisplayName("a list without a pool should allocate a node for every insertion")
+    void testAllocatedNodes_withoutPool_shouldCountEveryInsertion() {
+        list.addLast("A");
+        list.removeFirst();
+        list.addLast("B");
+        assertEquals(2, list.allocatedNodes());
+    }
+
+    @Test
+    @DisplayName("a pooled list should reuse removed nodes and allocate nothing in steady state")
+    void testAllocatedNodes_withPool_shouldReuseRemovedNodes() {
+        CustomLinkedList<String> pooled = new CustomLinkedList<>(4);
+        pooled.addLast("A");
+        pooled.addLast("B");
+        pooled.addLast("C");
+        for (int i = 0; i < 1_000; i++) {
+            pooled.addLast(pooled.removeFirst());
+            pooled.addFirst(pooled.removeLast());
+            pooled.add(1, pooled.remove(1));
+        }
+        assertEquals(3, pooled.allocatedNodes());
+        assertEquals(3, pooled.size());
+        assertEquals("A", pooled.get(0));
+        assertEquals("B", pooled.get(1));
+        assertEquals("C", pooled.get(2));
+    }
+
+    @Test
+    @DisplayName("the pool should keep no more nodes than its capacity")
+    void testAllocatedNodes_withFullPool_shouldDropExtraNodes() {
+        CustomLinkedList<String> pooled = new CustomLinkedList<>(1);
+        pooled.addLast("A");
+        pooled.addLast("B");
+        pooled.removeLast();
+        pooled.removeLast();
+        pooled.addLast("C");
+        pooled.addLast("D");
+        assertEquals(3, pooled.allocatedNodes());
+        assertEquals("C", pooled.getFirst());
+        assertEquals("D", pooled.getLast());
+    }
+
+    @Test
+    @DisplayName("iterator() should return the elements in order")
+    void testIterator_shouldReturnElementsInOrder() {
+        list.addLast("A");
+        list.addLast("B");
+        list.addLast("C");
+        StringBuilder sb = new StringBuilder();
+        for (String s : list) {
+            sb.append(s);
+        }
+        assertEquals("ABC", sb.toString());
+        Iterator<String> it = list.iterator();
+        it.next();
+        it.next();
+        it.next();
+        assertFalse(it.hasNext());
+        assertThrows(NoSuchElementException.class, it::next);
+    }
+
+    @Test
+    @DisplayName("iterator() should fail fast when the list is modified outside the iterator")
+    void testIterator_afterExternalModification_shouldThrowException() {
+        list.addLast("A");
+        list.addLast("B");
+        Iterator<String> it = list.iterator();
+        it.next();
+        list.addLast("C");
+        assertThrows(ConcurrentModificationException.class, it::next);
+    }
+
+    @Test
+    @DisplayName("listIterator() should move backwards and forwards with correct indexes")
+    void testListIterator_shouldMoveInBothDirections() {
+        list.addLast("A");
+        list.addLast("B");
+        list.addLast("C");
+        ListIterator<String> it = list.listIterator(3);
+        assertFalse(it.hasNext());
+        assertEquals(2, it.previousIndex());
+        assertEquals("C", it.previous());
+        assertEquals("B", it.previous());
+        assertEquals("B", it.next());
+        assertEquals(2, it.nextIndex());
+        assertThrows(IndexOutOfBoundsException.class, () -> list.listIterator(4));
+    }
+
+    @Test
+    @DisplayName("listIterator() set/add/remove should edit the list at the cursor")
+    void testListIterator_setAddRemove_shouldEditAtCursor() {
+        list.addLast("A");
+        list.addLast("B");
+        list.addLast("C");
+        ListIterator<String> it = list.listIterator();
+        assertThrows(IllegalStateException.class, it::remove);
+        it.next();
+        it.set("X");
+        it.add("Y");
+        it.next();
+        it.remove();
+        it.previous();
+        it.remove();
+        it.next();
+        it.add("Z");
+        assertFalse(it.hasNext());
+        assertThrows(IllegalStateException.class, it::remove);
+        assertEquals(List.of("X", "C", "Z"), list.stream().collect(Collectors.toList()));
+        assertEquals("Z", list.getLast());
+        assertEquals(3, list.size());
+    }
+
+    @Test
+    @DisplayName("iterator remove() should be able to empty the list")
+    void testIteratorRemove_onAllElements_shouldEmptyList() {
+        list.addLast("A");
+        list.addLast("B");
+        Iterator<String> it = list.iterator();
+        while (it.hasNext()) {
+            it.next();
+            it.remove();
+        }
+        assertEquals(0, list.size());
+        assertThrows(NoSuchElementException.class, () -> list.getFirst());
+    }
+
+    @Test
+    @DisplayName("spliterator() should report SIZED and ORDERED and feed sequential and parallel streams")
+    void testSpliterator_shouldSupportStreams() {
+        CustomLinkedList<Integer> numbers = new CustomLinkedList<>();
+        IntStream.range(0, 10_000).forEach(numbers::addLast);
+        Spliterator<Integer> spliterator = numbers.spliterator();
+        assertTrue(spliterator.hasCharacteristics(Spliterator.SIZED));
+        assertTrue(spliterator.hasCharacteristics(Spliterator.ORDERED));
+        assertEquals(10_000, spliterator.estimateSize());
+        assertEquals(49_995_000L, numbers.stream().mapToLong(Integer::longValue).sum());
+        assertEquals(49_995_000L, numbers.parallelStream().mapToLong(Integer::longValue).sum());
+        assertEquals(IntStream.range(0, 10_000).boxed().collect(Collectors.toList()),
+                numbers.parallelStream().collect(Collectors.toList()));
+    }
+
+    @Test
+    @DisplayName("sequential get(index) in both directions should return the correct elements")
+    void testGet_sequentialInBothDirections_shouldUseFingerCorrectly() {
+        for (int i = 0; i < 100; i++) {
+            list.addLast(String.valueOf(i));
+        }
+        for (int i = 0; i < 100; i++) {
+            assertEquals(String.valueOf(i), list.get(i));
+        }
+        for (int i = 99; i >= 0; i--) {
+            assertEquals(String.valueOf(i), list.get(i));
+        }
+        list.get(40);
+        list.addFirst("X");
+        assertEquals("40", list.get(41));
+        list.removeFirst();
+        list.remove(40);
+        assertEquals("41", list.get(40));
+        list.add(40, "Y");
+        assertEquals("Y", list.get(40));
+        assertEquals("41", list.get(41));
+    }
+
+    @Test
+    @DisplayName("random operations on a pooled list should behave like java.util.LinkedList")
+    void testRandomOperations_shouldMatchLinkedList() {
+        CustomLinkedList<String> pooled = new CustomLinkedList<>(8);
+        LinkedList<String> reference = new LinkedList<>();
+        Random random = new Random(5);
+        for (int step = 0; step < 20_000; step++) {
+            int op = random.nextInt(8);
+            String el = "e" + step;
+            if (op == 0) {
+                pooled.addFirst(el);
+                reference.addFirst(el);
+            } else if (op == 1) {
+                pooled.addLast(el);
+                reference.addLast(el);
+            } else if (op == 2) {
+                int index = random.nextInt(reference.size() + 1);
+                pooled.add(index, el);
+                reference.add(index, el);
+            } else if (!reference.isEmpty()) {
+                int index = random.nextInt(reference.size());
+                if (op == 3) {
+                    assertEquals(reference.remove(index), pooled.remove(index));
+                } else if (op == 4) {
+                    assertEquals(reference.removeFirst(), pooled.removeFirst());
+                } else if (op == 5) {
+                    assertEquals(reference.removeLast(), pooled.removeLast());
+                } else if (op == 6) {
+                    ListIterator<String> it = pooled.listIterator(index);
+                    ListIterator<String> refIt = reference.listIterator(index);
+                    assertEquals(refIt.next(), it.next());
+                    it.remove();
+                    refIt.remove();
+                } else {
+                    int near = Math.min(reference.size() - 1, index + random.nextInt(3));
+                    assertEquals(reference.get(index), pooled.get(index));
+                    assertEquals(reference.get(near), pooled.get(near));
+                }
+            }
+            assertEquals(reference.size(), pooled.size());
+        }
+        assertEquals(reference, pooled.stream().collect(Collectors.toList()));
+    }
+
+    @Test
+    @DisplayName("addAll() should append all elements in order and report whether the list changed")
+    void testAddAll_shouldAppendElementsInOrder() {
+        list.addLast("A");
+        assertTrue(list.addAll(List.of("B", "C", "D")));
+        assertFalse(list.addAll(Collections.emptyList()));
+        assertEquals(4, list.size());
+        assertEquals(List.of("A", "B", "C", "D"), list.stream().collect(Collectors.toList()));
+        assertEquals("D", list.getLast());
+        assertEquals("C", list.get(2));
+    }
+
+    @Test
+    @DisplayName("addAll() on an empty list should set head and tail")
+    void testAddAll_onEmptyList_shouldSetHeadAndTail() {
+        list.addAll(List.of("A", "B"));
+        assertEquals("A", list.getFirst());
+        assertEquals("B", list.getLast());
+        assertEquals("A", list.removeFirst());
+        assertEquals("B", list.removeLast());
+    }
+
+    @Test
+    @DisplayName("concat() should move all nodes of the other list and leave it empty")
+    void testConcat_shouldTakeOverNodesOfOtherList() {
+        CustomLinkedList<String> other = new CustomLinkedList<>();
+        list.addLast("A");
+        other.addLast("B");
+        other.addLast("C");
+        list.concat(other);
+        assertEquals(3, list.size());
+        assertEquals(0, other.size());
+        assertThrows(NoSuchElementException.class, () -> other.getFirst());
+        assertEquals(List.of("A", "B", "C"), list.stream().collect(Collectors.toList()));
+        assertEquals("C", list.getLast());
+        other.addLast("D");
+        assertEquals("C", list.getLast());
+        assertThrows(IllegalArgumentException.class, () -> list.concat(list));
+    }
+
+    @Test
+    @DisplayName("splice() should insert the other list at the beginning and in the middle")
+    void testSplice_atBeginningAndMiddle_shouldInsertCorrectly() {
+        list.addLast("A");
+        list.addLast("D");
+        CustomLinkedList<String> middle = new CustomLinkedList<>();
+        middle.addLast("B");
+        middle.addLast("C");
+        list.get(1);
+        list.splice(1, middle);
+        CustomLinkedList<String> front = new CustomLinkedList<>();
+        front.addLast("0");
+        list.splice(0, front);
+        assertEquals(List.of("0", "A", "B", "C", "D"), list.stream().collect(Collectors.toList()));
+        assertEquals("D", list.get(4));
+        assertEquals("0", list.getFirst());
+        assertThrows(IndexOutOfBoundsException.class, () -> list.splice(6, new CustomLinkedList<>()));
+    }
+
+    @Test
+    @DisplayName("split() should cut the list in two at the given index")
+    void testSplit_shouldCutListInTwo() {
+        list.addAll(List.of("A", "B", "C", "D", "E"));
+        CustomLinkedList<String> rest = list.split(2);
+        assertEquals(List.of("A", "B"), list.stream().collect(Collectors.toList()));
+        assertEquals(List.of("C", "D", "E"), rest.stream().collect(Collectors.toList()));
+        assertEquals("B", list.getLast());
+        assertEquals("C", rest.getFirst());
+        assertEquals("B", list.get(1));
+        assertEquals("E", rest.get(2));
+
+        CustomLinkedList<String> empty = list.split(2);
+        assertEquals(0, empty.size());
+        CustomLinkedList<String> all = list.split(0);
+        assertEquals(0, list.size());
+        assertThrows(NoSuchElementException.class, () -> list.getLast());
+        assertEquals(List.of("A", "B"), all.stream().collect(Collectors.toList()));
+        assertThrows(IndexOutOfBoundsException.class, () -> all.split(3));
+    }
+
+    @Test
+    @DisplayName("snapshot() should not copy nodes when the list only grows at its ends")
+    void testSnapshot_afterAddsAtEnds_shouldKeepContentsWithoutCopying() {
+        list.addAll(List.of("B", "C"));
+        long allocated = list.allocatedNodes();
+        CustomLinkedListSnapshot<String> snapshot = list.snapshot();
+        list.addFirst("A");
+        list.addLast("D");
+        list.addAll(List.of("E", "F"));
+
+        assertEquals(allocated + 4, list.allocatedNodes());
+        assertEquals(List.of("B", "C"), snapshot.stream().collect(Collectors.toList()));
+        assertEquals(2, snapshot.size());
+        assertEquals("B", snapshot.getFirst());
+        assertEquals("C", snapshot.getLast());
+        assertEquals("C", snapshot.get(1));
+        assertEquals(List.of("A", "B", "C", "D", "E", "F"), list.stream().collect(Collectors.toList()));
+    }
+
+    @Test
+    @DisplayName("removeFirst() and removeLast() after snapshot() should not copy nodes")
+    void testSnapshot_thenRemoveAtEnds_shouldNotCopyChain() {
+        list.addAll(List.of("A", "B", "C", "D", "E", "F"));
+        long allocated = list.allocatedNodes();
+        CustomLinkedListSnapshot<String> snapshot = list.snapshot();
+
+        assertEquals("A", list.removeFirst());
+        assertEquals("F", list.removeLast());
+        assertEquals("B", list.removeFirst());
+
+        assertEquals(allocated, list.allocatedNodes());
+        assertEquals(List.of("C", "D", "E"), list.stream().collect(Collectors.toList()));
+        assertEquals(-1, list.indexOf("B"));
+        assertEquals(-1, list.lastIndexOf("F"));
+        assertFalse(list.removeFirstOccurrence("A"));
+        assertEquals(List.of("A", "B", "C", "D", "E", "F"), snapshot.stream().collect(Collectors.toList()));
+        assertEquals("D", snapshot.get(3));
+        assertEquals("F", snapshot.getLast());
+    }
+
+    @Test
+    @DisplayName("Adding at an end a snapshot still reaches past should keep the snapshot intact")
+    void testSnapshot_removeThenAddAtEnds_shouldKeepSnapshot() {
+        list.addAll(List.of("A", "B", "C"));
+        CustomLinkedListSnapshot<String> snapshot = list.snapshot();
+        list.removeFirst();
+        list.removeLast();
+        list.addFirst("X");
+        list.addLast("Y");
+        list.addAll(List.of("Z"));
+
+        assertEquals(List.of("X", "B", "Y", "Z"), list.stream().collect(Collectors.toList()));
+        assertEquals("Z", list.get(3));
+        assertEquals(List.of("A", "B", "C"), snapshot.stream().collect(Collectors.toList()));
+        assertEquals("C", snapshot.get(2));
+    }
+
+    @Test
+    @DisplayName("A long run of removals after snapshot() should copy the chain to release the removed nodes")
+    void testSnapshot_thenManyRemovals_shouldEventuallyCopy() {
+        list.addAll(List.of("A", "B", "C", "D"));
+        CustomLinkedListSnapshot<String> snapshot = list.snapshot();
+        long allocated = list.allocatedNodes();
+        for (int i = 0; i < 20; i++) {
+            list.addLast("N" + i);
+            list.removeFirst();
+        }
+
+        assertTrue(list.allocatedNodes() > allocated + 20);
+        assertEquals(List.of("N16", "N17", "N18", "N19"), list.stream().collect(Collectors.toList()));
+        assertEquals(List.of("A", "B", "C", "D"), snapshot.stream().collect(Collectors.toList()));
+    }
+
+    @Test
+    @DisplayName("snapshot() should be unaffected by removals, inserts and splits of the list")
+    void testSnapshot_afterOtherChanges_shouldKeepContents() {
+        list.addAll(List.of("A", "B", "C", "D", "E"));
+        CustomLinkedListSnapshot<String> first = list.snapshot();
+        list.removeFirst();
+        list.add(2, "X");
+        CustomLinkedListSnapshot<String> second = list.snapshot();
+        list.remove(1);
+        list.removeLast();
+        CustomLinkedList<String> rest = list.split(1);
+        rest.addFirst("Y");
+
+        assertEquals(List.of("A", "B", "C", "D", "E"), first.stream().collect(Collectors.toList()));
+        assertEquals(List.of("B", "C", "X", "D", "E"), second.stream().collect(Collectors.toList()));
+        assertEquals("X", second.get(2));
+        assertEquals(List.of("B"), list.stream().collect(Collectors.toList()));
+        assertEquals(List.of("Y", "X", "D"), rest.stream().collect(Collectors.toList()));
+        assertThrows(IndexOutOfBoundsException.class, () -> first.get(5));
+    }
+
+    @Test
+    @DisplayName("snapshot() taken during iteration should let the iterator keep editing the list")
+    void testSnapshot_duringIteration_shouldRelocateIterator() {
+        list.addAll(List.of("A", "B", "C", "D"));
+        ListIterator<String> it = list.listIterator();
+        it.next();
+        it.next();
+        CustomLinkedListSnapshot<String> snapshot = list.snapshot();
+        it.set("b");
+        it.add("X");
+        assertEquals("C", it.next());
+        it.remove();
+        assertEquals("D", it.next());
+
+        assertEquals(List.of("A", "B", "C", "D"), snapshot.toCustomLinkedList().stream().collect(Collectors.toList()));
+        assertEquals(List.of("A", "b", "X", "D"), list.stream().collect(Collectors.toList()));
+    }
+
+    @Test
+    @DisplayName("snapshot() should invalidate other iterators once the list copies its nodes")
+    void testSnapshot_copyOnWrite_shouldFailOtherIterators() {
+        list.addAll(List.of("A", "B", "C"));
+        Iterator<String> it = list.iterator();
+        it.next();
+        list.snapshot();
+        ListIterator<String> editor = list.listIterator(1);
+        editor.next();
+        editor.set("b");
+        assertThrows(ConcurrentModificationException.class, it::next);
+    }
+
+    @Test
+    @DisplayName("snapshot() of an empty list should be empty")
+    void testSnapshot_onEmptyList_shouldBeEmpty() {
+        CustomLinkedListSnapshot<String> snapshot = list.snapshot();
+        list.addLast("A");
+        assertTrue(snapshot.isEmpty());
+        assertFalse(snapshot.iterator().hasNext());
+        assertThrows(NoSuchElementException.class, snapshot::getFirst);
+        assertThrows(NoSuchElementException.class, snapshot::getLast);
+    }
+
+    @Test
+    @DisplayName("sort() should order elements stably without allocating nodes")
+    void testSort_shouldOrderStablyWithoutAllocating() {
+        Random random = new Random(15);
+        List<String> expected = new ArrayList<>();
+        for (int i = 0; i < 5000; i++) {
+            String s = random.nextInt(100) + ":" + i;
+            list.addLast(s);
+            expected.add(s);
+        }
+        long allocated = list.allocatedNodes();
+        Comparator<String> byKey = Comparator.comparingInt(s -> Integer.parseInt(s.substring(0, s.indexOf(':'))));
+        list.sort(byKey);
+        expected.sort(byKey);
+
+        assertEquals(allocated, list.allocatedNodes());
+        assertEquals(expected, list.stream().collect(Collectors.toList()));
+        assertEquals(expected.get(4999), list.getLast());
+        assertEquals(expected.get(2500), list.get(2500));
+        List<String> backwards = new ArrayList<>();
+        ListIterator<String> it = list.listIterator(list.size());
+        while (it.hasPrevious()) {
+            backwards.add(it.previous());
+        }
+        Collections.reverse(backwards);
+        assertEquals(expected, backwards);
+    }
+
+    @Test
+    @DisplayName("sort(null) should use natural ordering and keep snapshots intact")
+    void testSort_withNaturalOrder_shouldKeepSnapshot() {
+        list.addAll(List.of("D", "B", "A", "C"));
+        CustomLinkedListSnapshot<String> snapshot = list.snapshot();
+        Iterator<String> stale = list.iterator();
+        list.sort(null);
+        assertEquals(List.of("A", "B", "C", "D"), list.stream().collect(Collectors.toList()));
+        assertEquals(List.of("D", "B", "A", "C"), snapshot.stream().collect(Collectors.toList()));
+        assertThrows(ConcurrentModificationException.class, stale::next);
+
+        list.sort(Comparator.reverseOrder());
+        assertEquals(List.of("D", "C", "B", "A"), list.stream().collect(Collectors.toList()));
+        CustomLinkedList<String> empty = new CustomLinkedList<>();
+        empty.sort(null);
+        assertEquals(0, empty.size());
+    }
+
+    @Test
+    @DisplayName("a comparator that throws halfway should leave a valid list with the same elements after sort() and parallelSort()")
+    void testSort_withComparatorThrowingHalfway_shouldKeepValidChain() {
+        List<Integer> original = new ArrayList<>();
+        Random random = new Random(17);
+        CustomLinkedList<Integer> numbers = new CustomLinkedList<>();
+        for (int i = 0; i < 40_000; i++) {
+            int n = random.nextInt(1000);
+            numbers.addLast(n);
+            original.add(n);
+        }
+        AtomicInteger calls = new AtomicInteger();
+        Comparator<Integer> failing = (a, b) -> {
+            if (calls.incrementAndGet() > 300_000) {
+                throw new IllegalStateException("comparator failed");
+            }
+            return Integer.compare(a, b);
+        };
+        List<Integer> expected = new ArrayList<>(original);
+        Collections.sort(expected);
+
+        assertThrows(IllegalStateException.class, () -> numbers.sort(failing));
+        assertValidChain(numbers, expected);
+        calls.set(0);
+        assertThrows(IllegalStateException.class, () -> numbers.parallelSort(failing));
+        assertValidChain(numbers, expected);
+
+        numbers.sort(null);
+        assertEquals(expected, numbers.stream().collect(Collectors.toList()));
+    }
+
+    @Test
+    @DisplayName("parallelSort() with a comparator that throws inside the fork/join tasks should keep a valid list")
+    void testParallelSort_withComparatorThrowingInTasks_shouldKeepValidChain() throws Exception {
+        List<String> command = new ArrayList<>();
+        command.add(Path.of(System.getProperty("java.home"), "bin", "java").toString());
+        command.add("-Djava.util.concurrent.ForkJoinPool.common.parallelism=4");
+        for (String argument : ManagementFactory.getRuntimeMXBean().getInputArguments()) {
+            if (argument.startsWith("--enable-preview") || argument.startsWith("--add-modules")) {
+                command.add(argument);
+            }
+        }
+        command.add("-cp");
+        command.add(System.getProperty("java.class.path"));
+        command.add(ParallelSortWorkload.class.getName());
+        Process process = new ProcessBuilder(command).redirectErrorStream(true).start();
+        String output = new String(process.getInputStream().readAllBytes());
+        assertTrue(process.waitFor(60, TimeUnit.SECONDS));
+        assertEquals(0, process.exitValue(), output);
+    }
+
+    /**
+     * Runs parallelSort() on a common pool with several workers, so that the list is cut into fork/join tasks
+     * even on a single-core machine, with a comparator that fails about halfway through and then with one that works.
+     */
+    static class ParallelSortWorkload {
+
+        public static void main(String[] args) {
+            Random random = new Random(18);
+            CustomLinkedList<Integer> numbers = new CustomLinkedList<>();
+            List<Integer> expected = new ArrayList<>();
+            for (int i = 0; i < 100_000; i++) {
+                int n = random.nextInt(1000);
+                numbers.addLast(n);
+                expected.add(n);
+            }
+            Collections.sort(expected);
+            AtomicInteger calls = new AtomicInteger();
+            Comparator<Integer> failing = (a, b) -> {
+                if (calls.incrementAndGet() > 800_000) {
+                    throw new IllegalStateException("comparator failed");
+                }
+                return Integer.compare(a, b);
+            };
+
+            assertThrows(IllegalStateException.class, () -> numbers.parallelSort(failing));
+            assertValidChain(numbers, expected);
+            numbers.parallelSort(null);
+            assertEquals(expected, numbers.stream().collect(Collectors.toList()));
+        }
+    }
+
+    private static void assertValidChain(CustomLinkedList<Integer> numbers, List<Integer> sortedElements) {
+        List<Integer> forwards = numbers.stream().collect(Collectors.toList());
+        List<Integer> backwards = new ArrayList<>();
+        ListIterator<Integer> it = numbers.listIterator(numbers.size());
+        while (it.hasPrevious()) {
+            backwards.add(it.previous());
+        }
+        Collections.reverse(backwards);
+
+        assertEquals(sortedElements.size(), numbers.size());
+        assertEquals(forwards, backwards);
+        assertEquals(forwards.get(forwards.size() - 1), numbers.getLast());
+        assertEquals(forwards.get(12_345), numbers.get(12_345));
+        forwards.sort(null);
+        assertEquals(sortedElements, forwards);
+    }
+
+    @Test
+    @DisplayName("parallelSort() should order a large list like a sequential sort")
+    void testParallelSort_onLargeList_shouldMatchSequentialSort() {
+        Random random = new Random(16);
+        CustomLinkedList<Integer> numbers = new CustomLinkedList<>();
+        List<Integer> expected = new ArrayList<>();
+        for (int i = 0; i < 100_000; i++) {
+            int n = random.nextInt(1000);
+            numbers.addLast(n);
+            expected.add(n);
+        }
+        numbers.parallelSort(Comparator.naturalOrder());
+        Collections.sort(expected);
+        assertEquals(expected, numbers.stream().collect(Collectors.toList()));
+        assertEquals(expected.get(99_999), numbers.getLast());
+        assertEquals(expected.get(70_000), numbers.get(70_000));
+    }
+
+    @Test
+    @DisplayName("parallelForEach() should visit every element exactly once")
+    void testParallelForEach_shouldVisitEveryElementOnce() {
+        CustomLinkedList<Integer> numbers = new CustomLinkedList<>();
+        for (int i = 1; i <= 100_000; i++) {
+            numbers.addLast(i);
+        }
+        LongAdder sum = new LongAdder();
+        LongAdder count = new LongAdder();
+        numbers.parallelForEach(n -> {
+            sum.add(n);
+            count.increment();
+        });
+        assertEquals(100_000L, count.sum());
+        assertEquals(5_000_050_000L, sum.sum());
+
+        list.addAll(List.of("A", "B"));
+        assertThrows(ConcurrentModificationException.class, () -> list.parallelForEach(s -> list.addLast(s + s)));
+    }
+
+    @Test
+    @DisplayName("indexOf(), lastIndexOf() and contains() should find elements including null")
+    void testIndexOfAndContains_shouldFindElements() {
+        list.addAll(Arrays.asList("A", "B", null, "A", "C"));
+        assertEquals(0, list.indexOf("A"));
+        assertEquals(3, list.lastIndexOf("A"));
+        assertEquals(2, list.indexOf(null));
+        assertEquals(2, list.lastIndexOf(null));
+        assertEquals(4, list.lastIndexOf("C"));
+        assertEquals(-1, list.indexOf("D"));
+        assertEquals(-1, list.lastIndexOf("D"));
+        assertTrue(list.contains("B"));
+        assertTrue(list.contains(null));
+        assertFalse(list.contains("D"));
+        assertFalse(new CustomLinkedList<String>().contains(null));
+    }
+
+    @Test
+    @DisplayName("removeFirstOccurrence() should remove only the first matching element")
+    void testRemoveFirstOccurrence_shouldRemoveFirstMatch() {
+        list.addAll(List.of("A", "B", "A", "C"));
+        CustomLinkedListSnapshot<String> snapshot = list.snapshot();
+        assertTrue(list.removeFirstOccurrence("A"));
+        assertEquals(List.of("B", "A", "C"), list.stream().collect(Collectors.toList()));
+        assertTrue(list.removeFirstOccurrence("A"));
+        assertTrue(list.removeFirstOccurrence("C"));
+        assertFalse(list.removeFirstOccurrence("A"));
+        assertEquals(List.of("B"), list.stream().collect(Collectors.toList()));
+        assertEquals("B", list.getLast());
+        assertEquals(List.of("A", "B", "A", "C"), snapshot.stream().collect(Collectors.toList()));
+    }
+
+    @Test
+    @DisplayName("removeIf() should remove matching elements in one pass, testing each element once")
+    void testRemoveIf_shouldRemoveMatchingElements() {
+        CustomLinkedList<Integer> numbers = new CustomLinkedList<>();
+        for (int i = 0; i < 20; i++) {
+            numbers.addLast(i);
+        }
+        CustomLinkedListSnapshot<Integer> snapshot = numbers.snapshot();
+        List<Integer> tested = new ArrayList<>();
+        assertTrue(numbers.removeIf(n -> {
+            tested.add(n);
+            return n % 3 == 0 || n == 19;
+        }));
+        assertEquals(IntStream.range(0, 20).boxed().collect(Collectors.toList()), tested);
+        assertEquals(List.of(1, 2, 4, 5, 7, 8, 10, 11, 13, 14, 16, 17),
+                numbers.stream().collect(Collectors.toList()));
+        assertEquals(17, numbers.getLast());
+        assertEquals(16, numbers.get(10));
+        assertEquals(20, snapshot.size());
+        assertFalse(numbers.removeIf(n -> n > 100));
+        assertTrue(numbers.removeIf(n -> true));
+        assertEquals(0, numbers.size());
+    }
+}
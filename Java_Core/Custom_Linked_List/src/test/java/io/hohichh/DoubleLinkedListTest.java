@@ -0,0 +1,77 @@
+package io.hohichh;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.NoSuchElementException;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class DoubleLinkedListTest {
+
+    private DoubleLinkedList list;
+
+    @BeforeEach
+    void setUp() {
+        list = new DoubleLinkedList(2);
+    }
+
+    @Test
+    @DisplayName("add operations should keep the values in order")
+    void testAdd_shouldKeepValuesInOrder() {
+        list.addLast(2.5);
+        list.addFirst(1.5);
+        list.addLast(4.5);
+        list.add(2, 3.5);
+        assertEquals(4, list.size());
+        assertEquals(1.5, list.getFirst());
+        assertEquals(4.5, list.getLast());
+        assertEquals(2.5, list.get(1));
+        assertEquals(3.5, list.get(2));
+    }
+
+    @Test
+    @DisplayName("remove operations should return the removed values")
+    void testRemove_shouldReturnRemovedValues() {
+        for (int i = 0; i < 5; i++) {
+            list.addLast(i);
+        }
+        assertEquals(0, list.removeFirst());
+        assertEquals(4, list.removeLast());
+        assertEquals(2, list.remove(1));
+        assertEquals(2, list.size());
+        assertEquals(1, list.get(0));
+        assertEquals(3, list.get(1));
+    }
+
+    @Test
+    @DisplayName("operations on an empty list should throw the same exceptions as CustomLinkedList")
+    void testOperations_onEmptyList_shouldThrowException() {
+        assertThrows(NoSuchElementException.class, () -> list.getFirst());
+        assertThrows(NoSuchElementException.class, () -> list.getLast());
+        assertThrows(NoSuchElementException.class, () -> list.removeFirst());
+        assertThrows(NoSuchElementException.class, () -> list.removeLast());
+        assertThrows(IndexOutOfBoundsException.class, () -> list.get(0));
+        assertThrows(IndexOutOfBoundsException.class, () -> list.remove(0));
+        assertThrows(IndexOutOfBoundsException.class, () -> list.add(1, 1.5));
+    }
+
+    @Test
+    @DisplayName("contains() and indexOf() should compare values with ==")
+    void testContainsAndIndexOf_shouldCompareWithEquality() {
+        DoubleLinkedList big = new DoubleLinkedList();
+        for (int i = 0; i < 300; i++) {
+            big.addLast(i / 4.0);
+        }
+        big.addLast(Double.NaN);
+        assertTrue(big.contains(12.25));
+        assertTrue(big.contains(-0.0));
+        assertFalse(big.contains(12.3));
+        assertFalse(big.contains(Double.NaN));
+        assertEquals(49, big.indexOf(12.25));
+        big.removeFirst();
+        assertFalse(big.contains(0.0));
+        assertEquals(-1, big.indexOf(Double.NaN));
+    }
+}
@@ -0,0 +1,241 @@
+package io.hohichh;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.lang.management.ManagementFactory;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class IntLinkedListTest {
+
+    private IntLinkedList list;
+
+    @BeforeEach
+    void setUp() {
+        list = new IntLinkedList(2);
+    }
+
+    @Test
+    @DisplayName("size() on an empty list should return zero")
+    void testSize_onEmptyList_shouldReturnZero() {
+        assertEquals(0, list.size());
+    }
+
+    @Test
+    @DisplayName("constructor with a non-positive capacity should throw IllegalArgumentException")
+    void testConstructor_withNonPositiveCapacity_shouldThrowException() {
+        assertThrows(IllegalArgumentException.class, () -> new IntLinkedList(0));
+    }
+
+    @Test
+    @DisplayName("addFirst() and addLast() should place values at the ends of the list")
+    void testAddFirstAndAddLast_shouldPlaceValuesAtEnds() {
+        list.addLast(2);
+        list.addFirst(1);
+        list.addLast(3);
+        assertEquals(3, list.size());
+        assertEquals(1, list.getFirst());
+        assertEquals(3, list.getLast());
+        assertEquals(2, list.get(1));
+    }
+
+    @Test
+    @DisplayName("add(index, value) should insert values at the beginning, middle and end")
+    void testAdd_atVariousPositions_shouldInsertCorrectly() {
+        list.add(0, 2);
+        list.add(0, 1);
+        list.add(2, 4);
+        list.add(2, 3);
+        assertEquals(4, list.size());
+        for (int i = 0; i < 4; i++) {
+            assertEquals(i + 1, list.get(i));
+        }
+    }
+
+    @Test
+    @DisplayName("add(index, value) with an invalid index should throw IndexOutOfBoundsException")
+    void testAdd_withInvalidIndex_shouldThrowException() {
+        assertThrows(IndexOutOfBoundsException.class, () -> list.add(-1, 1));
+        assertThrows(IndexOutOfBoundsException.class, () -> list.add(1, 1));
+    }
+
+    @Test
+    @DisplayName("getFirst() and getLast() on an empty list should throw an exception")
+    void testGetFirstAndGetLast_onEmptyList_shouldThrowException() {
+        assertThrows(NoSuchElementException.class, () -> list.getFirst());
+        assertThrows(NoSuchElementException.class, () -> list.getLast());
+    }
+
+    @Test
+    @DisplayName("get(index) with an invalid index should throw IndexOutOfBoundsException")
+    void testGet_withInvalidIndex_shouldThrowException() {
+        list.addLast(1);
+        assertThrows(IndexOutOfBoundsException.class, () -> list.get(-1));
+        assertThrows(IndexOutOfBoundsException.class, () -> list.get(1));
+    }
+
+    @Test
+    @DisplayName("removeFirst() and removeLast() should remove the ends and empty the list")
+    void testRemoveFirstAndRemoveLast_shouldRemoveEnds() {
+        list.addLast(1);
+        list.addLast(2);
+        list.addLast(3);
+        assertEquals(1, list.removeFirst());
+        assertEquals(3, list.removeLast());
+        assertEquals(2, list.removeLast());
+        assertEquals(0, list.size());
+        assertThrows(NoSuchElementException.class, () -> list.removeFirst());
+        assertThrows(NoSuchElementException.class, () -> list.removeLast());
+    }
+
+    @Test
+    @DisplayName("remove(index) should remove the correct value and reject invalid indexes")
+    void testRemove_byIndex_shouldRemoveCorrectly() {
+        list.addLast(1);
+        list.addLast(2);
+        list.addLast(3);
+        assertEquals(2, list.remove(1));
+        assertEquals(1, list.get(0));
+        assertEquals(3, list.get(1));
+        assertThrows(IndexOutOfBoundsException.class, () -> list.remove(-1));
+        assertThrows(IndexOutOfBoundsException.class, () -> list.remove(2));
+    }
+
+    @Test
+    @DisplayName("released slots should be reused instead of growing the arrays")
+    void testRemovedSlots_shouldBeReused() {
+        for (int i = 0; i < 100; i++) {
+            list.addLast(i);
+        }
+        int used = list.used;
+        for (int round = 0; round < 1_000; round++) {
+            list.addLast(list.removeFirst());
+        }
+        assertEquals(used, list.used);
+        assertEquals(100, list.size());
+    }
+
+    @Test
+    @DisplayName("random operations should behave like java.util.LinkedList")
+    void testRandomOperations_shouldMatchLinkedList() {
+        LinkedList<Integer> reference = new LinkedList<>();
+        Random random = new Random(7);
+        for (int step = 0; step < 5_000; step++) {
+            int op = random.nextInt(5);
+            if (op == 0) {
+                list.addFirst(step);
+                reference.addFirst(step);
+            } else if (op == 1) {
+                list.addLast(step);
+                reference.addLast(step);
+            } else if (op == 2) {
+                int index = random.nextInt(reference.size() + 1);
+                list.add(index, step);
+                reference.add(index, step);
+            } else if (!reference.isEmpty()) {
+                int index = random.nextInt(reference.size());
+                if (op == 3) {
+                    assertEquals(reference.remove(index), list.remove(index));
+                } else {
+                    assertEquals(reference.get(index), list.get(index));
+                }
+            }
+            assertEquals(reference.size(), list.size());
+        }
+    }
+
+    @Test
+    @DisplayName("contains() should find linked values and ignore removed slots")
+    void testContains_shouldIgnoreRemovedSlots() {
+        IntLinkedList big = new IntLinkedList();
+        for (int i = 0; i < 1000; i++) {
+            big.addLast(i);
+        }
+        assertTrue(big.contains(0));
+        assertTrue(big.contains(517));
+        assertTrue(big.contains(999));
+        assertFalse(big.contains(1000));
+        assertFalse(big.contains(-1));
+
+        big.remove(517);
+        big.removeLast();
+        assertFalse(big.contains(517));
+        assertFalse(big.contains(999));
+        big.addFirst(517);
+        assertTrue(big.contains(517));
+        assertFalse(list.contains(0));
+    }
+
+    @Test
+    @DisplayName("indexOf() should return the position of the first occurrence")
+    void testIndexOf_shouldReturnFirstPosition() {
+        list.addLast(5);
+        list.addLast(7);
+        list.addFirst(7);
+        list.addLast(9);
+        assertEquals(0, list.indexOf(7));
+        assertEquals(1, list.indexOf(5));
+        assertEquals(3, list.indexOf(9));
+        assertEquals(-1, list.indexOf(4));
+    }
+
+    @Test
+    @DisplayName("the primitive lists should load and search without the Vector API module")
+    void testContains_withoutVectorApiModule_shouldUseScalarScan() throws Exception {
+        List<String> command = new ArrayList<>();
+        command.add(Path.of(System.getProperty("java.home"), "bin", "java").toString());
+        for (String argument : ManagementFactory.getRuntimeMXBean().getInputArguments()) {
+            if (argument.startsWith("--enable-preview")) {
+                command.add(argument);
+            }
+        }
+        command.add("-cp");
+        command.add(System.getProperty("java.class.path"));
+        command.add(WithoutVectorApi.class.getName());
+        Process process = new ProcessBuilder(command).redirectErrorStream(true).start();
+        String output = new String(process.getInputStream().readAllBytes());
+        assertTrue(process.waitFor(60, TimeUnit.SECONDS));
+        assertEquals(0, process.exitValue(), output);
+    }
+
+    /**
+     * Runs in a JVM started without {@code --add-modules jdk.incubator.vector}
+     * and exits with a non-zero status if a primitive list cannot be used there.
+     */
+    static class WithoutVectorApi {
+
+        public static void main(String[] args) {
+            check(ModuleLayer.boot().findModule("jdk.incubator.vector").isEmpty(), "module is present");
+            IntLinkedList ints = new IntLinkedList();
+            LongLinkedList longs = new LongLinkedList();
+            DoubleLinkedList doubles = new DoubleLinkedList();
+            for (int i = 0; i < 100; i++) {
+                ints.addLast(i);
+                longs.addLast(i);
+                doubles.addLast(i);
+            }
+            ints.remove(50);
+            longs.remove(50);
+            doubles.remove(50);
+            check(ints.contains(99) && !ints.contains(50) && !ints.contains(100), "IntLinkedList");
+            check(longs.contains(99) && !longs.contains(50) && !longs.contains(100), "LongLinkedList");
+            check(doubles.contains(99) && !doubles.contains(50) && !doubles.contains(100), "DoubleLinkedList");
+        }
+
+        private static void check(boolean condition, String message) {
+            if (!condition) {
+                System.out.println(message);
+                System.exit(1);
+            }
+        }
+    }
+}
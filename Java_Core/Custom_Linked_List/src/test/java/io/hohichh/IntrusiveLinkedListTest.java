@@ -0,0 +1,208 @@
+package io.hohichh;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class IntrusiveLinkedListTest {
+
+    private IntrusiveLinkedList<Item> list;
+
+    @BeforeEach
+    void setUp() {
+        list = new IntrusiveLinkedList<>();
+    }
+
+    private List<String> names() {
+        List<String> names = new ArrayList<>();
+        for (Item item : list) {
+            names.add(item.name);
+        }
+        return names;
+    }
+
+    @Test
+    @DisplayName("addFirst() and addLast() should link elements at both ends")
+    void testAddFirstAndAddLast_shouldLinkElementsAtBothEnds() {
+        Item b = new Item("B");
+        list.addLast(b);
+        list.addFirst(new Item("A"));
+        list.addLast(new Item("C"));
+        assertEquals(List.of("A", "B", "C"), names());
+        assertEquals(3, list.size());
+        assertEquals("A", list.getFirst().name);
+        assertEquals("C", list.getLast().name);
+        assertEquals("A", b.getPrev().name);
+        assertEquals("C", b.getNext().name);
+    }
+
+    @Test
+    @DisplayName("unlink() should remove an element from the middle and clear its links")
+    void testUnlink_inMiddle_shouldRemoveElementAndClearLinks() {
+        Item a = new Item("A");
+        Item b = new Item("B");
+        Item c = new Item("C");
+        list.addLast(a);
+        list.addLast(b);
+        list.addLast(c);
+        list.unlink(b);
+        assertEquals(List.of("A", "C"), names());
+        assertNull(b.getNext());
+        assertNull(b.getPrev());
+        assertSame(c, a.getNext());
+        assertSame(a, c.getPrev());
+
+        list.addFirst(b);
+        assertEquals(List.of("B", "A", "C"), names());
+    }
+
+    @Test
+    @DisplayName("unlink() of the only element should leave the list empty")
+    void testUnlink_onlyElement_shouldEmptyList() {
+        Item a = new Item("A");
+        list.addLast(a);
+        list.unlink(a);
+        assertTrue(list.isEmpty());
+        assertThrows(NoSuchElementException.class, () -> list.getFirst());
+        assertThrows(NoSuchElementException.class, () -> list.getLast());
+        list.addLast(a);
+        assertEquals(List.of("A"), names());
+    }
+
+    @Test
+    @DisplayName("removeFirst() and removeLast() should return the end elements")
+    void testRemoveFirstAndRemoveLast_shouldReturnEndElements() {
+        list.addLast(new Item("A"));
+        list.addLast(new Item("B"));
+        list.addLast(new Item("C"));
+        assertEquals("A", list.removeFirst().name);
+        assertEquals("C", list.removeLast().name);
+        assertEquals("B", list.removeLast().name);
+        assertTrue(list.isEmpty());
+        assertThrows(NoSuchElementException.class, () -> list.removeFirst());
+        assertThrows(NoSuchElementException.class, () -> list.removeLast());
+    }
+
+    @Test
+    @DisplayName("moveToFront() and moveToBack() should reorder elements")
+    void testMoveToFrontAndMoveToBack_shouldReorderElements() {
+        Item a = new Item("A");
+        Item b = new Item("B");
+        Item c = new Item("C");
+        list.addLast(a);
+        list.addLast(b);
+        list.addLast(c);
+        list.moveToFront(c);
+        assertEquals(List.of("C", "A", "B"), names());
+        list.moveToBack(c);
+        assertEquals(List.of("A", "B", "C"), names());
+        list.moveToFront(a);
+        list.moveToBack(b);
+        assertEquals(List.of("A", "C", "B"), names());
+        assertEquals(3, list.size());
+    }
+
+    @Test
+    @DisplayName("addBefore() should insert in front of the given element")
+    void testAddBefore_shouldInsertInFrontOfElement() {
+        Item a = new Item("A");
+        Item c = new Item("C");
+        list.addLast(a);
+        list.addLast(c);
+        list.addBefore(new Item("B"), c);
+        list.addBefore(new Item("0"), a);
+        assertEquals(List.of("0", "A", "B", "C"), names());
+        assertEquals("0", list.getFirst().name);
+    }
+
+    @Test
+    @DisplayName("adding a linked element or null should throw")
+    void testAdd_linkedOrNullElement_shouldThrow() {
+        Item a = new Item("A");
+        list.addLast(a);
+        assertThrows(IllegalArgumentException.class, () -> list.addLast(a));
+        IntrusiveLinkedList<Item> other = new IntrusiveLinkedList<>();
+        list.addLast(new Item("B"));
+        assertThrows(IllegalArgumentException.class, () -> other.addFirst(a));
+        assertThrows(NullPointerException.class, () -> list.addLast(null));
+    }
+
+    @Test
+    @DisplayName("unlinking or moving an element that is not linked should throw and keep the list intact")
+    void testUnlink_unlinkedElement_shouldThrow() {
+        Item a = new Item("A");
+        Item b = new Item("B");
+        list.addLast(a);
+        list.addLast(b);
+        list.unlink(a);
+        assertThrows(IllegalArgumentException.class, () -> list.unlink(a));
+        assertThrows(IllegalArgumentException.class, () -> list.moveToFront(a));
+        assertThrows(IllegalArgumentException.class, () -> list.moveToBack(a));
+        assertThrows(IllegalArgumentException.class, () -> list.addBefore(new Item("C"), a));
+        IntrusiveLinkedList<Item> other = new IntrusiveLinkedList<>();
+        Item lone = new Item("D");
+        other.addLast(lone);
+        assertThrows(IllegalArgumentException.class, () -> list.unlink(lone));
+        assertEquals(List.of("B"), names());
+        assertEquals(1, list.size());
+        assertEquals(1, other.size());
+    }
+
+    @Test
+    @DisplayName("iterator remove() should unlink elements and be fail-fast")
+    void testIterator_removeAndComodification() {
+        for (String name : List.of("A", "B", "C", "D")) {
+            list.addLast(new Item(name));
+        }
+        Iterator<Item> it = list.iterator();
+        while (it.hasNext()) {
+            if (it.next().name.compareTo("B") > 0) {
+                it.remove();
+            }
+        }
+        assertEquals(List.of("A", "B"), names());
+        assertThrows(IllegalStateException.class, () -> list.iterator().remove());
+
+        Iterator<Item> stale = list.iterator();
+        list.addLast(new Item("E"));
+        assertThrows(ConcurrentModificationException.class, stale::next);
+    }
+
+    private static final class Item implements IntrusiveLink<Item> {
+        private final String name;
+        private Item next;
+        private Item prev;
+
+        Item(String name) {
+            this.name = name;
+        }
+
+        @Override
+        public Item getNext() {
+            return next;
+        }
+
+        @Override
+        public Item getPrev() {
+            return prev;
+        }
+
+        @Override
+        public void setNext(Item next) {
+            this.next = next;
+        }
+
+        @Override
+        public void setPrev(Item prev) {
+            this.prev = prev;
+        }
+    }
+}
@@ -0,0 +1,74 @@
+package io.hohichh;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.NoSuchElementException;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class LongLinkedListTest {
+
+    private LongLinkedList list;
+
+    @BeforeEach
+    void setUp() {
+        list = new LongLinkedList(2);
+    }
+
+    @Test
+    @DisplayName("add operations should keep the values in order")
+    void testAdd_shouldKeepValuesInOrder() {
+        list.addLast(2L);
+        list.addFirst(1L);
+        list.addLast(4L);
+        list.add(2, 3L);
+        assertEquals(4, list.size());
+        assertEquals(1L, list.getFirst());
+        assertEquals(4L, list.getLast());
+        assertEquals(2L, list.get(1));
+        assertEquals(3L, list.get(2));
+    }
+
+    @Test
+    @DisplayName("remove operations should return the removed values")
+    void testRemove_shouldReturnRemovedValues() {
+        for (int i = 0; i < 5; i++) {
+            list.addLast(i);
+        }
+        assertEquals(0, list.removeFirst());
+        assertEquals(4, list.removeLast());
+        assertEquals(2, list.remove(1));
+        assertEquals(2, list.size());
+        assertEquals(1, list.get(0));
+        assertEquals(3, list.get(1));
+    }
+
+    @Test
+    @DisplayName("operations on an empty list should throw the same exceptions as CustomLinkedList")
+    void testOperations_onEmptyList_shouldThrowException() {
+        assertThrows(NoSuchElementException.class, () -> list.getFirst());
+        assertThrows(NoSuchElementException.class, () -> list.getLast());
+        assertThrows(NoSuchElementException.class, () -> list.removeFirst());
+        assertThrows(NoSuchElementException.class, () -> list.removeLast());
+        assertThrows(IndexOutOfBoundsException.class, () -> list.get(0));
+        assertThrows(IndexOutOfBoundsException.class, () -> list.remove(0));
+        assertThrows(IndexOutOfBoundsException.class, () -> list.add(1, 1L));
+    }
+
+    @Test
+    @DisplayName("contains() and indexOf() should find linked values only")
+    void testContainsAndIndexOf_shouldFindLinkedValues() {
+        LongLinkedList big = new LongLinkedList();
+        for (long i = 0; i < 300; i++) {
+            big.addLast(i << 33);
+        }
+        assertTrue(big.contains(150L << 33));
+        assertFalse(big.contains(150L));
+        big.remove(150);
+        assertFalse(big.contains(150L << 33));
+        assertEquals(150, big.indexOf(151L << 33));
+        assertEquals(-1, big.indexOf(150L << 33));
+    }
+}
@@ -0,0 +1,150 @@
+package io.hohichh;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.LinkedList;
+import java.util.NoSuchElementException;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class OffHeapLongLinkedListTest {
+
+    private OffHeapLongLinkedList list;
+
+    @BeforeEach
+    void setUp() {
+        list = new OffHeapLongLinkedList();
+    }
+
+    @AfterEach
+    void tearDown() {
+        list.close();
+    }
+
+    @Test
+    @DisplayName("add operations should keep the values in order")
+    void testAdd_shouldKeepValuesInOrder() {
+        list.addLast(2);
+        list.addFirst(1);
+        list.addLast(4);
+        list.add(2, 3);
+        assertEquals(4, list.size());
+        assertEquals(1, list.getFirst());
+        assertEquals(4, list.getLast());
+        for (int i = 0; i < 4; i++) {
+            assertEquals(i + 1, list.get(i));
+        }
+    }
+
+    @Test
+    @DisplayName("remove operations should return the removed values")
+    void testRemove_shouldReturnRemovedValues() {
+        for (int i = 0; i < 5; i++) {
+            list.addLast(i);
+        }
+        assertEquals(0, list.removeFirst());
+        assertEquals(4, list.removeLast());
+        assertEquals(2, list.remove(1));
+        assertEquals(2, list.size());
+        assertEquals(1, list.get(0));
+        assertEquals(3, list.get(1));
+    }
+
+    @Test
+    @DisplayName("operations on an empty list should throw the same exceptions as CustomLinkedList")
+    void testOperations_onEmptyList_shouldThrowException() {
+        assertThrows(NoSuchElementException.class, () -> list.getFirst());
+        assertThrows(NoSuchElementException.class, () -> list.getLast());
+        assertThrows(NoSuchElementException.class, () -> list.removeFirst());
+        assertThrows(NoSuchElementException.class, () -> list.removeLast());
+        assertThrows(IndexOutOfBoundsException.class, () -> list.get(0));
+        assertThrows(IndexOutOfBoundsException.class, () -> list.remove(0));
+        assertThrows(IndexOutOfBoundsException.class, () -> list.add(1, 1));
+    }
+
+    @Test
+    @DisplayName("values spanning several native chunks should stay reachable")
+    void testAdd_acrossSeveralChunks_shouldKeepValues() {
+        int count = 200_000;
+        for (int i = 0; i < count; i++) {
+            list.addLast(i * 3L);
+        }
+        assertEquals(count, list.size());
+        assertEquals(0, list.getFirst());
+        assertEquals((count - 1) * 3L, list.getLast());
+        assertEquals(150_000 * 3L, list.get(150_000));
+    }
+
+    @Test
+    @DisplayName("every value should stay readable across the boundaries of the growing chunks")
+    void testGet_acrossChunkBoundaries_shouldReturnEveryValue() {
+        int count = 16 + 32 + 64 + 128 + 1;
+        for (int i = 0; i < count; i++) {
+            list.addLast(i);
+        }
+        for (int i = 0; i < count; i++) {
+            assertEquals(i, list.get(i));
+        }
+    }
+
+    @Test
+    @DisplayName("the list should only be usable from the thread that created it")
+    void testAccess_fromAnotherThread_shouldThrowException() throws Exception {
+        list.addLast(1);
+        RuntimeException[] failure = new RuntimeException[1];
+        Thread other = new Thread(() -> {
+            try {
+                list.getFirst();
+            } catch (RuntimeException e) {
+                failure[0] = e;
+            }
+        });
+        other.start();
+        other.join();
+        assertInstanceOf(WrongThreadException.class, failure[0]);
+    }
+
+    @Test
+    @DisplayName("access after close() should throw IllegalStateException")
+    void testAccess_afterClose_shouldThrowException() {
+        list.addLast(1);
+        list.close();
+        list.close();
+        assertThrows(IllegalStateException.class, () -> list.getFirst());
+        assertThrows(IllegalStateException.class, () -> list.addLast(2));
+    }
+
+    @Test
+    @DisplayName("random operations should behave like java.util.LinkedList")
+    void testRandomOperations_shouldMatchLinkedList() {
+        LinkedList<Long> reference = new LinkedList<>();
+        Random random = new Random(3);
+        for (int step = 0; step < 5_000; step++) {
+            int op = random.nextInt(5);
+            long value = random.nextLong();
+            if (op == 0) {
+                list.addFirst(value);
+                reference.addFirst(value);
+            } else if (op == 1) {
+                list.addLast(value);
+                reference.addLast(value);
+            } else if (op == 2) {
+                int index = random.nextInt(reference.size() + 1);
+                list.add(index, value);
+                reference.add(index, value);
+            } else if (!reference.isEmpty()) {
+                int index = random.nextInt(reference.size());
+                if (op == 3) {
+                    assertEquals(reference.remove(index), list.remove(index));
+                } else {
+                    assertEquals(reference.get(index), list.get(index));
+                }
+            }
+            assertEquals(reference.size(), list.size());
+        }
+    }
+}
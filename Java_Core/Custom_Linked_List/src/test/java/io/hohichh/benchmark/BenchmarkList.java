@@ -0,0 +1,93 @@
+package io.hohichh.benchmark;
+
+import io.hohichh.CustomLinkedList;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.LinkedList;
+import java.util.List;
+
+/**
+ * A common view of the list implementations compared by the benchmarks,
+ * so every benchmark method is written once and parameterized by implementation.
+ */
+interface BenchmarkList {
+
+    void addFirst(Integer e);
+
+    void addLast(Integer e);
+
+    void add(int index, Integer e);
+
+    Integer get(int index);
+
+    Integer remove(int index);
+
+    Integer removeFirst();
+
+    /**
+     * Creates an adapter over an empty list of the given implementation.
+     *
+     * @param impl one of {@code CustomLinkedList}, {@code LinkedList}, {@code ArrayList} or {@code ArrayDeque}
+     * @return the adapter
+     */
+    static BenchmarkList create(String impl) {
+        switch (impl) {
+            case "CustomLinkedList":
+                return new Custom(new CustomLinkedList<>());
+            case "LinkedList":
+                return new JdkList(new LinkedList<>());
+            case "ArrayList":
+                return new JdkList(new ArrayList<>());
+            case "ArrayDeque":
+                return new Deque(new ArrayDeque<>());
+            default:
+                throw new IllegalArgumentException("Unknown implementation: " + impl);
+        }
+    }
+
+    final class Custom implements BenchmarkList {
+        private final CustomLinkedList<Integer> list;
+
+        Custom(CustomLinkedList<Integer> list) {
+            this.list = list;
+        }
+
+        public void addFirst(Integer e) { list.addFirst(e); }
+        public void addLast(Integer e) { list.addLast(e); }
+        public void add(int index, Integer e) { list.add(index, e); }
+        public Integer get(int index) { return list.get(index); }
+        public Integer remove(int index) { return list.remove(index); }
+        public Integer removeFirst() { return list.removeFirst(); }
+    }
+
+    final class JdkList implements BenchmarkList {
+        private final List<Integer> list;
+
+        JdkList(List<Integer> list) {
+            this.list = list;
+        }
+
+        public void addFirst(Integer e) { list.add(0, e); }
+        public void addLast(Integer e) { list.add(e); }
+        public void add(int index, Integer e) { list.add(index, e); }
+        public Integer get(int index) { return list.get(index); }
+        public Integer remove(int index) { return list.remove(index); }
+        public Integer removeFirst() { return list.remove(0); }
+    }
+
+    final class Deque implements BenchmarkList {
+        private final ArrayDeque<Integer> deque;
+
+        Deque(ArrayDeque<Integer> deque) {
+            this.deque = deque;
+        }
+
+        public void addFirst(Integer e) { deque.addFirst(e); }
+        public void addLast(Integer e) { deque.addLast(e); }
+        public void add(int index, Integer e) { throw new UnsupportedOperationException(); }
+        public Integer get(int index) { throw new UnsupportedOperationException(); }
+        public Integer remove(int index) { throw new UnsupportedOperationException(); }
+        public Integer removeFirst() { return deque.removeFirst(); }
+    }
+}
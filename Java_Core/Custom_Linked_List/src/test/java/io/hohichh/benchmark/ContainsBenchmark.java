@@ -0,0 +1,75 @@
+package io.hohichh.benchmark;
+
+import io.hohichh.CustomLinkedList;
+import io.hohichh.IntLinkedList;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures a membership check for a value that is not in a list of {@code size} elements,
+ * the worst case that scans everything. {@code intListContains} is the SIMD scan of the value array,
+ * {@code intListIndexOf} walks the links of the same list, and the boxed lists show the cost of
+ * following a pointer and calling {@code equals} per element.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class ContainsBenchmark {
+
+    private static final int MISSING = -1;
+
+    @Param({"1000", "1000000"})
+    private int size;
+
+    private IntLinkedList intList;
+    private CustomLinkedList<Integer> customList;
+    private List<Integer> arrayList;
+
+    @Setup
+    public void setUp() {
+        intList = new IntLinkedList();
+        customList = new CustomLinkedList<>();
+        arrayList = new ArrayList<>();
+        for (int i = 0; i < size; i++) {
+            intList.addLast(i);
+            customList.addLast(i);
+            arrayList.add(i);
+        }
+    }
+
+    @Benchmark
+    public boolean intListContains() {
+        return intList.contains(MISSING);
+    }
+
+    @Benchmark
+    public int intListIndexOf() {
+        return intList.indexOf(MISSING);
+    }
+
+    @Benchmark
+    public boolean customLinkedListContains() {
+        return customList.contains(MISSING);
+    }
+
+    @Benchmark
+    public boolean arrayListContains() {
+        return arrayList.contains(MISSING);
+    }
+}
@@ -0,0 +1,59 @@
+package io.hohichh.benchmark;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures insertion and removal at the ends of a list that holds {@code size} elements.
+ * Every invocation adds one element and removes one, so the size stays constant during a run.
+ * ArrayList is included as the baseline whose front operations shift the whole array.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class EndOperationsBenchmark {
+
+    private static final Integer ELEMENT = 42;
+
+    @Param({"10", "1000", "100000", "10000000"})
+    private int size;
+
+    @Param({"CustomLinkedList", "LinkedList", "ArrayDeque", "ArrayList"})
+    private String impl;
+
+    private BenchmarkList list;
+
+    @Setup
+    public void setUp() {
+        list = BenchmarkList.create(impl);
+        for (int i = 0; i < size; i++) {
+            list.addLast(i);
+        }
+    }
+
+    @Benchmark
+    public Integer addFirstThenRemoveFirst() {
+        list.addFirst(ELEMENT);
+        return list.removeFirst();
+    }
+
+    @Benchmark
+    public Integer addLastThenRemoveFirst() {
+        list.addLast(ELEMENT);
+        return list.removeFirst();
+    }
+}
@@ -0,0 +1,103 @@
+package io.hohichh.benchmark;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures positional access on a list that holds {@code size} elements.
+ * Random indexes come from a precomputed table, so the generator is not part of the measurement.
+ * {@code getMiddle} draws its indexes from the middle half of the list, far from both ends,
+ * and never reads the same index twice in a row, so it is not served by a cached position.
+ * {@code sequentialGet} walks a window of neighbouring indexes, the pattern served by the finger
+ * in {@code CustomLinkedList.getNodeByIndex}; on lists shorter than the window it wraps around,
+ * so every invocation still performs {@code WINDOW} reads.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class IndexedOperationsBenchmark {
+
+    private static final Integer ELEMENT = 42;
+    private static final int INDEXES = 1024;
+    private static final int WINDOW = 256;
+
+    @Param({"10", "1000", "100000", "10000000"})
+    private int size;
+
+    @Param({"CustomLinkedList", "LinkedList", "ArrayList"})
+    private String impl;
+
+    private BenchmarkList list;
+    private final int[] indexes = new int[INDEXES];
+    private final int[] middleIndexes = new int[INDEXES];
+    private int cursor;
+
+    @Setup
+    public void setUp() {
+        list = BenchmarkList.create(impl);
+        for (int i = 0; i < size; i++) {
+            list.addLast(i);
+        }
+        SplittableRandom random = new SplittableRandom(42);
+        for (int i = 0; i < INDEXES; i++) {
+            indexes[i] = random.nextInt(size);
+        }
+        int quarter = size >> 2;
+        for (int i = 0; i < INDEXES; i++) {
+            int index;
+            do {
+                index = quarter + random.nextInt(size - 2 * quarter);
+            } while (i > 0 && index == middleIndexes[i - 1] && size > 1);
+            middleIndexes[i] = index;
+        }
+    }
+
+    private int nextIndex() {
+        cursor = (cursor + 1) & (INDEXES - 1);
+        return indexes[cursor];
+    }
+
+    @Benchmark
+    public Integer getRandom() {
+        return list.get(nextIndex());
+    }
+
+    @Benchmark
+    public Integer getMiddle() {
+        cursor = (cursor + 1) & (INDEXES - 1);
+        return list.get(middleIndexes[cursor]);
+    }
+
+    @Benchmark
+    public Integer addThenRemoveRandom() {
+        int index = nextIndex();
+        list.add(index, ELEMENT);
+        return list.remove(index);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(WINDOW)
+    public void sequentialGet(Blackhole bh) {
+        int from = Math.max(0, (size >> 1) - WINDOW / 2);
+        for (int i = 0; i < WINDOW; i++) {
+            bh.consume(list.get((from + i) % size));
+        }
+    }
+}
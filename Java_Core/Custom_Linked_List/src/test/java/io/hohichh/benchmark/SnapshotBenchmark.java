@@ -0,0 +1,60 @@
+package io.hohichh.benchmark;
+
+import io.hohichh.CustomLinkedList;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the cost a snapshot puts on the writer of a {@link CustomLinkedList} that holds {@code size} elements.
+ * Every invocation adds one element at the tail and removes one at the head, so the size stays constant.
+ * After a snapshot, the removal only moves the head and copies the chain once every {@code size} removals,
+ * so {@code snapshotThenRemoveFirst} should stay within a small constant of {@code removeFirst} at every size.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class SnapshotBenchmark {
+
+    private static final Integer ELEMENT = 42;
+
+    @Param({"10", "1000", "100000"})
+    private int size;
+
+    private CustomLinkedList<Integer> list;
+
+    @Setup
+    public void setUp() {
+        list = new CustomLinkedList<>();
+        for (int i = 0; i < size; i++) {
+            list.addLast(i);
+        }
+    }
+
+    @Benchmark
+    public Integer removeFirst() {
+        list.addLast(ELEMENT);
+        return list.removeFirst();
+    }
+
+    @Benchmark
+    public Integer snapshotThenRemoveFirst(Blackhole bh) {
+        bh.consume(list.snapshot());
+        list.addLast(ELEMENT);
+        return list.removeFirst();
+    }
+}
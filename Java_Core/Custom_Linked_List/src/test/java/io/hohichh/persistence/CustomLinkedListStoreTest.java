@@ -0,0 +1,143 @@
+package io.hohichh.persistence;
+
+import io.hohichh.CustomLinkedList;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CustomLinkedListStoreTest {
+
+    @TempDir
+    Path dir;
+
+    @Test
+    @DisplayName("a list of strings should survive a write and map round trip")
+    void testWriteAndMap_withStrings_shouldRoundTrip() throws IOException {
+        CustomLinkedList<String> list = new CustomLinkedList<>();
+        list.addAll(List.of("alpha", "", "ünïcödé", "😀 emoji", "omega"));
+        Path file = dir.resolve("strings.cll");
+        CustomLinkedListStore.write(list, ElementCodecs.strings(), file);
+
+        try (MappedCustomLinkedList<String> mapped = CustomLinkedListStore.map(file, ElementCodecs.strings())) {
+            assertEquals(5, mapped.size());
+            assertEquals("ünïcödé", mapped.get(2));
+            assertEquals("", mapped.get(1));
+            assertEquals("😀 emoji", mapped.get(3));
+            List<String> all = new ArrayList<>();
+            mapped.forEach(all::add);
+            assertEquals(list.stream().collect(Collectors.toList()), all);
+            assertThrows(IndexOutOfBoundsException.class, () -> mapped.get(5));
+        }
+    }
+
+    @Test
+    @DisplayName("a large list of longs should be stored without an offset table and read lazily")
+    void testWriteAndMap_withLongs_shouldUseFixedRecords() throws IOException {
+        CustomLinkedList<Long> list = new CustomLinkedList<>();
+        int count = 100_000;
+        for (long i = 0; i < count; i++) {
+            list.addLast(i * i);
+        }
+        Path file = dir.resolve("longs.cll");
+        CustomLinkedListStore.write(list, ElementCodecs.longs(), file);
+        assertEquals(CustomLinkedListStore.HEADER_BYTES + (long) count * Long.BYTES, Files.size(file));
+
+        try (MappedCustomLinkedList<Long> mapped = CustomLinkedListStore.map(file, ElementCodecs.longs())) {
+            assertEquals(count, mapped.size());
+            assertEquals(99_999L * 99_999L, mapped.get(99_999));
+            CustomLinkedList<Long> copy = mapped.toCustomLinkedList();
+            assertEquals(count, copy.size());
+            assertEquals(12_345L * 12_345L, copy.get(12_345));
+        }
+    }
+
+    @Test
+    @DisplayName("records larger than the write buffer should be written in one piece")
+    void testWrite_withRecordLargerThanBuffer_shouldRoundTrip() throws IOException {
+        CustomLinkedList<String> list = new CustomLinkedList<>();
+        String big = "x".repeat(200_000);
+        list.addLast("a");
+        list.addLast(big);
+        list.addLast("b");
+        Path file = dir.resolve("big.cll");
+        CustomLinkedListStore.write(list, ElementCodecs.strings(), file);
+        try (MappedCustomLinkedList<String> mapped = CustomLinkedListStore.map(file, ElementCodecs.strings())) {
+            assertEquals(big, mapped.get(1));
+            assertEquals("b", mapped.get(2));
+        }
+    }
+
+    @Test
+    @DisplayName("an empty list should round trip to an empty mapped list")
+    void testWriteAndMap_withEmptyList_shouldRoundTrip() throws IOException {
+        Path file = dir.resolve("empty.cll");
+        CustomLinkedListStore.write(new CustomLinkedList<>(), ElementCodecs.strings(), file);
+        try (MappedCustomLinkedList<String> mapped = CustomLinkedListStore.map(file, ElementCodecs.strings())) {
+            assertEquals(0, mapped.size());
+            assertFalse(mapped.iterator().hasNext());
+        }
+    }
+
+    @Test
+    @DisplayName("mapping a foreign file or using a mismatching codec should throw IOException")
+    void testMap_withInvalidFile_shouldThrowException() throws IOException {
+        Path foreign = dir.resolve("foreign.bin");
+        Files.write(foreign, new byte[64]);
+        assertThrows(IOException.class, () -> CustomLinkedListStore.map(foreign, ElementCodecs.strings()));
+
+        CustomLinkedList<Integer> list = new CustomLinkedList<>();
+        list.addLast(1);
+        Path file = dir.resolve("ints.cll");
+        CustomLinkedListStore.write(list, ElementCodecs.integers(), file);
+        assertThrows(IOException.class, () -> CustomLinkedListStore.map(file, ElementCodecs.longs()));
+    }
+
+    @Test
+    @DisplayName("a codec writing a different length than it reports should be rejected")
+    void testWrite_withInconsistentCodec_shouldThrowException() {
+        ElementCodec<String> broken = new ElementCodec<>() {
+            @Override
+            public int encodedSize(String e) {
+                return 1;
+            }
+
+            @Override
+            public void encode(String e, ByteBuffer out) {
+                out.putShort((short) 0);
+            }
+
+            @Override
+            public String decode(ByteBuffer in) {
+                return "";
+            }
+        };
+        CustomLinkedList<String> list = new CustomLinkedList<>();
+        list.addLast("A");
+        assertThrows(IllegalStateException.class,
+                () -> CustomLinkedListStore.write(list, broken, dir.resolve("broken.cll")));
+    }
+
+    @Test
+    @DisplayName("access after close() should throw IllegalStateException")
+    void testGet_afterClose_shouldThrowException() throws IOException {
+        CustomLinkedList<Double> list = new CustomLinkedList<>();
+        list.addLast(1.5);
+        Path file = dir.resolve("doubles.cll");
+        CustomLinkedListStore.write(list, ElementCodecs.doubles(), file);
+        MappedCustomLinkedList<Double> mapped = CustomLinkedListStore.map(file, ElementCodecs.doubles());
+        assertEquals(1.5, mapped.get(0));
+        mapped.close();
+        mapped.close();
+        assertThrows(IllegalStateException.class, () -> mapped.get(0));
+    }
+}
@@ -0,0 +1,176 @@
+package io.hohichh.appcontext;
+
+import io.hohichh.appcontext.annotations.Component;
+import io.hohichh.appcontext.annotations.Primary;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * Maps every type a component can be injected as to the components of that type.
+ * <p>
+ * The index is built once when the context starts. It covers the component classes themselves
+ * and all their superclasses and interfaces, so looking up a bean by an interface is a map lookup
+ * instead of a scan over all beans. When several components have the same type, the lookup
+ * picks the component of exactly that class, then the one marked @Primary, or a component by
+ * its name through @Qualifier. Otherwise the lookup fails instead of picking one at random.
+ * <p>
+ * The index is immutable after construction and can be read by any number of threads.
+ */
+final class BeanTypeIndex {
+
+    private final Map<Class<?>, List<Class<?>>> candidates;
+    private final Map<Class<?>, Class<?>> resolved;
+    private final Map<String, Class<?>> beansByName;
+    private final Map<Class<?>, String> names;
+
+    /**
+     * Builds the index of a set of components.
+     *
+     * @param beanClasses The component classes of the context.
+     * @throws RuntimeException if two components have the same name.
+     */
+    BeanTypeIndex(Collection<Class<?>> beanClasses) {
+        Map<Class<?>, List<Class<?>>> candidates = new HashMap<>();
+        Map<String, Class<?>> beansByName = new HashMap<>();
+        Map<Class<?>, String> names = new HashMap<>();
+
+        List<Class<?>> sorted = beanClasses.stream()
+                .sorted(Comparator.comparing(Class::getName))
+                .toList();
+        for (Class<?> beanClass : sorted) {
+            String name = beanName(beanClass);
+            Class<?> existing = beansByName.putIfAbsent(name, beanClass);
+            if (existing != null) {
+                throw new RuntimeException("Duplicate bean name '" + name + "' for "
+                        + existing.getName() + " and " + beanClass.getName());
+            }
+            names.put(beanClass, name);
+            for (Class<?> type : typesOf(beanClass)) {
+                candidates.computeIfAbsent(type, t -> new ArrayList<>()).add(beanClass);
+            }
+        }
+
+        Map<Class<?>, Class<?>> resolved = new HashMap<>();
+        for (Map.Entry<Class<?>, List<Class<?>>> entry : candidates.entrySet()) {
+            Class<?> choice = choose(entry.getKey(), entry.getValue());
+            if (choice != null) {
+                resolved.put(entry.getKey(), choice);
+            }
+            entry.setValue(List.copyOf(entry.getValue()));
+        }
+
+        this.candidates = Map.copyOf(candidates);
+        this.resolved = Map.copyOf(resolved);
+        this.beansByName = Map.copyOf(beansByName);
+        this.names = Map.copyOf(names);
+    }
+
+    /**
+     * Returns the name of a component: the value of its @Component annotation,
+     * or its simple class name starting with a lowercase letter.
+     *
+     * @param beanClass The component class.
+     * @return The bean name.
+     */
+    static String beanName(Class<?> beanClass) {
+        Component component = beanClass.getAnnotation(Component.class);
+        if (component != null && !component.value().isEmpty()) {
+            return component.value();
+        }
+        String simpleName = beanClass.getSimpleName();
+        return Character.toLowerCase(simpleName.charAt(0)) + simpleName.substring(1);
+    }
+
+    /**
+     * Finds the single component to use for a type.
+     *
+     * @param type The requested type.
+     * @return The component class.
+     * @throws RuntimeException if there is no component of the type, or several and none of them is preferred.
+     */
+    Class<?> resolve(Class<?> type) {
+        Class<?> beanClass = resolved.get(type);
+        if (beanClass != null) {
+            return beanClass;
+        }
+        List<Class<?>> matches = candidates.get(type);
+        if (matches == null) {
+            throw new RuntimeException("Bean of type " + type.getSimpleName() + " not found.");
+        }
+        throw new RuntimeException("Expected a single bean of type " + type.getSimpleName()
+                + " but found " + matches.size() + ": " + namesOf(matches)
+                + ". Mark one of them with @Primary or use @Qualifier.");
+    }
+
+    /**
+     * Finds the component with the given name, which must be of the requested type.
+     *
+     * @param type The requested type.
+     * @param name The bean name.
+     * @return The component class.
+     * @throws RuntimeException if there is no component of the type with that name.
+     */
+    Class<?> resolve(Class<?> type, String name) {
+        Class<?> beanClass = beansByName.get(name);
+        if (beanClass == null || !type.isAssignableFrom(beanClass)) {
+            throw new RuntimeException("Bean of type " + type.getSimpleName() + " named '" + name + "' not found.");
+        }
+        return beanClass;
+    }
+
+    /**
+     * Picks the component for a type when no name is given, or returns null if the choice is ambiguous.
+     */
+    private static Class<?> choose(Class<?> type, List<Class<?>> matches) {
+        if (matches.size() == 1) {
+            return matches.getFirst();
+        }
+        if (matches.contains(type)) {
+            return type;
+        }
+        Class<?> primary = null;
+        for (Class<?> match : matches) {
+            if (match.isAnnotationPresent(Primary.class)) {
+                if (primary != null) {
+                    return null;
+                }
+                primary = match;
+            }
+        }
+        return primary;
+    }
+
+    /**
+     * Returns the class itself, its superclasses except Object, and all interfaces it implements.
+     */
+    private static Set<Class<?>> typesOf(Class<?> beanClass) {
+        Set<Class<?>> types = new LinkedHashSet<>();
+        for (Class<?> c = beanClass; c != null && c != Object.class; c = c.getSuperclass()) {
+            types.add(c);
+            addInterfaces(c, types);
+        }
+        return types;
+    }
+
+    private static void addInterfaces(Class<?> type, Set<Class<?>> types) {
+        for (Class<?> anInterface : type.getInterfaces()) {
+            if (types.add(anInterface)) {
+                addInterfaces(anInterface, types);
+            }
+        }
+    }
+
+    private String namesOf(List<Class<?>> beanClasses) {
+        return beanClasses.stream()
+                .map(names::get)
+                .collect(Collectors.joining(", "));
+    }
+}
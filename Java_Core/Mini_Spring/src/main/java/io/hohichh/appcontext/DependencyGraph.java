@@ -0,0 +1,120 @@
+package io.hohichh.appcontext;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * The graph of @Autowired dependencies between the components of a context.
+ * <p>
+ * Every component class is a node, with an edge to the component that provides each of its
+ * constructor parameters and @Autowired field types. The graph resolves these providers once, orders the components so
+ * that every component comes after its dependencies, and rejects circular dependencies.
+ */
+final class DependencyGraph {
+
+    private final Set<Class<?>> onDemand;
+    private final Map<Class<?>, List<Class<?>>> dependencies = new LinkedHashMap<>();
+    private final Map<InjectionPlan.Dependency, Class<?>> providers = new HashMap<>();
+
+    /**
+     * Builds the graph of a set of components.
+     *
+     * @param plans      The injection plans of all components.
+     * @param onDemand   The component classes that are not created at startup: prototypes and lazy singletons.
+     * @param typeIndex  The index used to find the component for each dependency.
+     * @throws RuntimeException if no single component provides a dependency.
+     */
+    DependencyGraph(Collection<InjectionPlan> plans, Set<Class<?>> onDemand, BeanTypeIndex typeIndex) {
+        this.onDemand = onDemand;
+        for (InjectionPlan plan : plans) {
+            List<Class<?>> beanDependencies = new ArrayList<>();
+            for (InjectionPlan.Dependency dependency : plan.dependencies()) {
+                beanDependencies.add(providers.computeIfAbsent(dependency, d -> d.qualifier() != null
+                        ? typeIndex.resolve(d.type(), d.qualifier())
+                        : typeIndex.resolve(d.type())));
+            }
+            dependencies.put(plan.beanClass(), beanDependencies);
+        }
+    }
+
+    /**
+     * Returns the singletons created at startup that a component needs before it can be initialized.
+     * Prototypes and lazy singletons may be created on injection, so the singletons they depend on
+     * are included instead.
+     *
+     * @param beanClass The component class.
+     * @return The eager singleton classes the component depends on, directly or through on-demand beans.
+     */
+    Set<Class<?>> singletonDependenciesOf(Class<?> beanClass) {
+        Set<Class<?>> result = new LinkedHashSet<>();
+        collectSingletonDependencies(dependencies.get(beanClass), result, new HashSet<>());
+        return result;
+    }
+
+    /**
+     * Returns the singletons created at startup that some of the dependencies of a component need,
+     * like the constructor parameters that must be ready before it is instantiated.
+     *
+     * @param beanDependencies Dependencies of a component.
+     * @return The eager singleton classes the dependencies need, directly or through on-demand beans.
+     */
+    Set<Class<?>> singletonDependenciesOf(Collection<InjectionPlan.Dependency> beanDependencies) {
+        Set<Class<?>> result = new LinkedHashSet<>();
+        collectSingletonDependencies(beanDependencies.stream().map(providers::get).toList(), result, new HashSet<>());
+        return result;
+    }
+
+    /**
+     * Orders all components so that each one comes after the components it depends on.
+     *
+     * @return The component classes in dependency order.
+     * @throws RuntimeException if the components depend on each other in a cycle.
+     */
+    List<Class<?>> sortTopologically() {
+        List<Class<?>> order = new ArrayList<>();
+        Set<Class<?>> visited = new HashSet<>();
+        List<Class<?>> path = new ArrayList<>();
+        for (Class<?> beanClass : dependencies.keySet()) {
+            visit(beanClass, visited, path, order);
+        }
+        return order;
+    }
+
+    private void visit(Class<?> beanClass, Set<Class<?>> visited, List<Class<?>> path, List<Class<?>> order) {
+        int cycleStart = path.indexOf(beanClass);
+        if (cycleStart >= 0) {
+            List<Class<?>> cycle = new ArrayList<>(path.subList(cycleStart, path.size()));
+            cycle.add(beanClass);
+            throw new RuntimeException("Circular dependency detected: " + cycle.stream()
+                    .map(Class::getSimpleName)
+                    .collect(Collectors.joining(" -> ")));
+        }
+        if (!visited.add(beanClass)) {
+            return;
+        }
+        path.add(beanClass);
+        for (Class<?> dependency : dependencies.get(beanClass)) {
+            visit(dependency, visited, path, order);
+        }
+        path.removeLast();
+        order.add(beanClass);
+    }
+
+    private void collectSingletonDependencies(List<Class<?>> beanClasses, Set<Class<?>> result, Set<Class<?>> visited) {
+        for (Class<?> dependency : beanClasses) {
+            if (!onDemand.contains(dependency)) {
+                result.add(dependency);
+            } else if (visited.add(dependency)) {
+                collectSingletonDependencies(dependencies.get(dependency), result, visited);
+            }
+        }
+    }
+}
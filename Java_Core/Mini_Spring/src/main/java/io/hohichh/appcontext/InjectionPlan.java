@@ -0,0 +1,198 @@
+package io.hohichh.appcontext;
+
+import io.hohichh.appcontext.annotations.Autowired;
+import io.hohichh.appcontext.annotations.Qualifier;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.AnnotatedElement;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Field;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Modifier;
+import java.lang.reflect.Parameter;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * Describes how to create and wire instances of one bean class.
+ * <p>
+ * The plan is computed once per class: the constructor to call, the dependencies to pass to it,
+ * and a setter for every field annotated with @Autowired are looked up as method handles,
+ * so creating a bean afterwards needs no reflective lookups, annotation checks or access checks.
+ * A method handle cannot set a final field, so final @Autowired fields are rejected when the plan is built.
+ * <p>
+ * The constructor is the one annotated with @Autowired, or the only declared constructor,
+ * or else the no-arg constructor. Its parameters are resolved like @Autowired fields, so a bean
+ * can receive all its dependencies in final fields.
+ */
+final class InjectionPlan {
+
+    private static final MethodType CONSTRUCTOR_TYPE = MethodType.methodType(Object.class, Object[].class);
+    private static final MethodType SETTER_TYPE = MethodType.methodType(void.class, Object.class, Object.class);
+
+    private final Class<?> beanClass;
+    private final MethodHandle constructor;
+    private final Dependency[] constructorDependencies;
+    private final Dependency[] fieldDependencies;
+    private final MethodHandle[] setters;
+
+    /**
+     * An @Autowired field or constructor parameter type,
+     * with the bean name from its @Qualifier or null if it has none.
+     */
+    record Dependency(Class<?> type, String qualifier) {
+
+        private static Dependency of(Class<?> type, AnnotatedElement element) {
+            Qualifier qualifier = element.getAnnotation(Qualifier.class);
+            return new Dependency(type, qualifier != null ? qualifier.value() : null);
+        }
+    }
+
+    private InjectionPlan(Class<?> beanClass, MethodHandle constructor, Dependency[] constructorDependencies,
+                          Dependency[] fieldDependencies, MethodHandle[] setters) {
+        this.beanClass = beanClass;
+        this.constructor = constructor;
+        this.constructorDependencies = constructorDependencies;
+        this.fieldDependencies = fieldDependencies;
+        this.setters = setters;
+    }
+
+    /**
+     * Builds the plan for a bean class.
+     *
+     * @param beanClass The component class to build the plan for.
+     * @return The injection plan of the class.
+     * @throws ReflectiveOperationException if no constructor can be chosen or the class cannot be accessed.
+     * @throws IllegalStateException if a field annotated with @Autowired is final.
+     */
+    static InjectionPlan of(Class<?> beanClass) throws ReflectiveOperationException {
+        MethodHandles.Lookup lookup = MethodHandles.privateLookupIn(beanClass, MethodHandles.lookup());
+
+        Constructor<?> injectionConstructor = findConstructor(beanClass);
+        Parameter[] parameters = injectionConstructor.getParameters();
+        Dependency[] constructorDependencies = new Dependency[parameters.length];
+        for (int i = 0; i < parameters.length; i++) {
+            constructorDependencies[i] = Dependency.of(parameters[i].getType(), parameters[i]);
+        }
+        MethodHandle constructor = lookup.unreflectConstructor(injectionConstructor)
+                .asType(MethodType.genericMethodType(parameters.length))
+                .asSpreader(Object[].class, parameters.length)
+                .asType(CONSTRUCTOR_TYPE);
+
+        List<Dependency> fieldDependencies = new ArrayList<>();
+        List<MethodHandle> setters = new ArrayList<>();
+        for (Field field : beanClass.getDeclaredFields()) {
+            if (field.isAnnotationPresent(Autowired.class)) {
+                if (Modifier.isFinal(field.getModifiers())) {
+                    throw new IllegalStateException("@Autowired field " + beanClass.getName() + "." + field.getName()
+                            + " is final; inject it through the constructor instead");
+                }
+                fieldDependencies.add(Dependency.of(field.getType(), field));
+                setters.add(lookup.unreflectSetter(field).asType(SETTER_TYPE));
+            }
+        }
+        return new InjectionPlan(beanClass, constructor, constructorDependencies,
+                fieldDependencies.toArray(new Dependency[0]), setters.toArray(new MethodHandle[0]));
+    }
+
+    /**
+     * Chooses the constructor used to create instances of a bean class.
+     */
+    private static Constructor<?> findConstructor(Class<?> beanClass) throws NoSuchMethodException {
+        Constructor<?>[] constructors = beanClass.getDeclaredConstructors();
+        Constructor<?> autowired = null;
+        for (Constructor<?> constructor : constructors) {
+            if (constructor.isAnnotationPresent(Autowired.class)) {
+                if (autowired != null) {
+                    throw new IllegalStateException("More than one @Autowired constructor in " + beanClass.getName());
+                }
+                autowired = constructor;
+            }
+        }
+        if (autowired != null) {
+            return autowired;
+        }
+        if (constructors.length == 1) {
+            return constructors[0];
+        }
+        try {
+            return beanClass.getDeclaredConstructor();
+        } catch (NoSuchMethodException e) {
+            throw new NoSuchMethodException(beanClass.getName()
+                    + " has several constructors; mark the one to use with @Autowired or add a no-arg constructor");
+        }
+    }
+
+    /**
+     * Returns the class this plan creates.
+     *
+     * @return The bean class.
+     */
+    Class<?> beanClass() {
+        return beanClass;
+    }
+
+    /**
+     * Returns all dependencies of the bean: the constructor parameters first, then the @Autowired fields.
+     *
+     * @return The dependencies of the bean class.
+     */
+    List<Dependency> dependencies() {
+        List<Dependency> all = new ArrayList<>(List.of(constructorDependencies));
+        all.addAll(List.of(fieldDependencies));
+        return all;
+    }
+
+    /**
+     * Returns the dependencies passed to the constructor, which must exist before the bean can be created.
+     *
+     * @return The constructor dependencies of the bean class.
+     */
+    List<Dependency> constructorDependencies() {
+        return List.of(constructorDependencies);
+    }
+
+    /**
+     * Creates a new instance of the bean class, with its constructor dependencies
+     * but without its @Autowired fields injected.
+     *
+     * @param resolver Returns the bean to pass for a constructor parameter.
+     * @return The new instance.
+     * @throws InvocationTargetException if the constructor throws a checked exception.
+     */
+    Object instantiate(Function<Dependency, Object> resolver) throws InvocationTargetException {
+        Object[] arguments = new Object[constructorDependencies.length];
+        for (int i = 0; i < arguments.length; i++) {
+            arguments[i] = resolver.apply(constructorDependencies[i]);
+        }
+        try {
+            return (Object) constructor.invokeExact(arguments);
+        } catch (RuntimeException | Error e) {
+            throw e;
+        } catch (Throwable e) {
+            throw new InvocationTargetException(e);
+        }
+    }
+
+    /**
+     * Sets every @Autowired field of a bean to the dependency returned by the resolver.
+     *
+     * @param bean     The instance of the bean class to inject.
+     * @param resolver Returns the bean to inject for a dependency.
+     */
+    void inject(Object bean, Function<Dependency, Object> resolver) {
+        for (int i = 0; i < setters.length; i++) {
+            Object dependency = resolver.apply(fieldDependencies[i]);
+            try {
+                setters[i].invokeExact(bean, dependency);
+            } catch (RuntimeException | Error e) {
+                throw e;
+            } catch (Throwable e) {
+                throw new IllegalStateException(e);
+            }
+        }
+    }
+}
@@ -8,28 +8,47 @@
 
 package io.hohichh.appcontext;
 
-import io.hohichh.appcontext.annotations.Autowired;
 import io.hohichh.appcontext.annotations.Component;
+import io.hohichh.appcontext.annotations.Lazy;
 import io.hohichh.appcontext.annotations.Scope;
+import io.hohichh.appcontext.index.ComponentIndex;
 
 import java.io.File;
 import java.io.IOException;
-import java.lang.reflect.Field;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Proxy;
 import java.net.URISyntaxException;
 import java.net.URL;
 import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.Function;
 import java.util.jar.JarEntry;
 import java.util.jar.JarInputStream;
 
 
 public class MiniApplicationContext {
 
-    private final Map<Class<?>, Object> singletonBeans = new HashMap<>();
-    private final Map<Class<?>, Class<?>> prototypes = new HashMap<>();
+    private final SingletonRegistry singletonBeans = new SingletonRegistry();
+    private final Map<Class<?>, InjectionPlan> prototypes;
+    private final Set<Class<?>> lazySingletons;
+    private final Map<Class<?>, InjectionPlan> injectionPlans;
+    private final BeanTypeIndex typeIndex;
 
     /**
      * Initializes the application context by scanning the specified package for components,
      * instantiating beans, and injecting dependencies.
+     * <p>
+     * Singletons are created concurrently on virtual threads. A bean is injected and initialized
+     * only after all beans it depends on have been initialized, so independent beans run
+     * their afterPropertiesSet in parallel. Circular dependencies are rejected.
+     * Singletons marked with @Lazy are not created here, but on first use.
+     * <p>
+     * Once constructed, the context is safe to use from many threads. The component metadata
+     * does not change after startup, and singletons are kept in a {@link SingletonRegistry},
+     * so getBean takes no locks.
      *
      * @param packageName The root package to scan for classes annotated with @Component.
      */
@@ -37,25 +56,32 @@ public class MiniApplicationContext {
         try {
             Set<Class<?>> componentClasses = scanPackageForComponents(packageName);
 
+            Map<Class<?>, InjectionPlan> plans = new HashMap<>();
+            Map<Class<?>, InjectionPlan> prototypePlans = new HashMap<>();
+            Set<Class<?>> lazyClasses = new HashSet<>();
             for (Class<?> clazz : componentClasses) {
+                InjectionPlan plan = InjectionPlan.of(clazz);
+                plans.put(clazz, plan);
                 Scope scope = clazz.getAnnotation(Scope.class);
                 if (scope != null && scope.value().equals("prototype")) {
-                    prototypes.put(clazz, clazz);
-                } else {
-                    Object instance = clazz.getDeclaredConstructor().newInstance();
-                    singletonBeans.put(clazz, instance);
+                    prototypePlans.put(clazz, plan);
+                } else if (clazz.isAnnotationPresent(Lazy.class)) {
+                    lazyClasses.add(clazz);
                 }
             }
+            injectionPlans = Map.copyOf(plans);
+            prototypes = Map.copyOf(prototypePlans);
+            lazySingletons = Set.copyOf(lazyClasses);
 
-            for (Object bean : singletonBeans.values()) {
-                injectDependencies(bean);
-            }
-
-            for (Object bean : singletonBeans.values()) {
-                if (bean instanceof InitializingBean) {
-                    ((InitializingBean) bean).afterPropertiesSet();
-                }
+            typeIndex = new BeanTypeIndex(injectionPlans.keySet());
+            Set<Class<?>> onDemand = new HashSet<>(prototypes.keySet());
+            onDemand.addAll(lazySingletons);
+            DependencyGraph graph = new DependencyGraph(injectionPlans.values(), onDemand, typeIndex);
+            for (Class<?> clazz : lazySingletons) {
+                InjectionPlan plan = injectionPlans.get(clazz);
+                singletonBeans.registerLazy(clazz, () -> createBean(plan, this::resolveDependency));
             }
+            createSingletons(graph, onDemand);
         } catch (Exception e) {
             throw new RuntimeException("Failed to initialize MiniApplicationContext", e);
         }
@@ -64,67 +90,187 @@ public class MiniApplicationContext {
     /**
      * Retrieves a bean instance from the container.
      * <p>
-     * If the bean is a singleton, it returns the shared instance.
+     * If the bean is a singleton, it returns the shared instance, creating it first if it is @Lazy.
      * If the bean is a prototype, it creates, configures, and returns a new instance.
-     * The method can also resolve dependencies by interface or superclass.
+     * The method can also resolve dependencies by interface or superclass. If several beans
+     * have the requested type, the bean of exactly that class or the one marked @Primary is returned.
      *
      * @param type The class of the bean to retrieve.
      * @param <T>  The generic type of the bean.
      * @return An instance of the requested bean.
-     * @throws RuntimeException if a bean of the specified type cannot be found or created.
+     * @throws RuntimeException if a single bean of the specified type cannot be found or created.
      */
-    @SuppressWarnings("unchecked")
     public <T> T getBean(Class<T> type) {
-        Object bean = singletonBeans.get(type);
+        return obtainBean(typeIndex.resolve(type), type);
+    }
+
+    /**
+     * Retrieves a bean instance by its name, as @Qualifier does for injected fields.
+     * The name of a bean is the value of its @Component annotation, or its simple class name
+     * starting with a lowercase letter.
+     *
+     * @param name The name of the bean to retrieve.
+     * @param type The class the bean must be assignable to.
+     * @param <T>  The generic type of the bean.
+     * @return An instance of the requested bean.
+     * @throws RuntimeException if a bean with that name and type cannot be found or created.
+     */
+    public <T> T getBean(String name, Class<T> type) {
+        return obtainBean(typeIndex.resolve(type, name), type);
+    }
+
+    private <T> T obtainBean(Class<?> beanClass, Class<T> type) {
+        Object bean = singletonBeans.get(beanClass);
         if (bean != null) {
-            return (T) bean;
+            return type.cast(bean);
+        }
+
+        try {
+            return type.cast(createBean(prototypes.get(beanClass), this::resolveDependency));
+        } catch (Exception e) {
+            throw new RuntimeException("Failed to create prototype bean", e);
+        }
+    }
+
+    /**
+     * Retrieves the bean to inject for a dependency, by its qualifier if it has one.
+     *
+     * @param dependency An @Autowired field of a bean.
+     * @return The bean to inject.
+     */
+    private Object resolveDependency(InjectionPlan.Dependency dependency) {
+        Class<?> provider = dependency.qualifier() != null
+                ? typeIndex.resolve(dependency.type(), dependency.qualifier())
+                : typeIndex.resolve(dependency.type());
+        if (lazySingletons.contains(provider)) {
+            return lazyDependency(dependency.type(), provider);
         }
+        return obtainBean(provider, dependency.type());
+    }
 
-        Class<?> prototype = prototypes.get(type);
-        if (prototype != null) {
+    /**
+     * Returns what to inject into a field that refers to a @Lazy singleton.
+     * <p>
+     * If the singleton is not created yet and the field type is an interface, a proxy of the interface
+     * is injected that creates the singleton on its first method call and delegates every call to it.
+     * A class-typed field cannot be proxied without generating code, so the singleton is created now.
+     *
+     * @param type      The type of the injected field.
+     * @param beanClass The lazy component class.
+     * @return The singleton or a proxy for it.
+     */
+    private Object lazyDependency(Class<?> type, Class<?> beanClass) {
+        if (!type.isInterface() || singletonBeans.isCreated(beanClass)) {
+            return singletonBeans.get(beanClass);
+        }
+        return Proxy.newProxyInstance(type.getClassLoader(), new Class<?>[]{type}, (proxy, method, args) -> {
             try {
-                Object protoInstance = prototype.getDeclaredConstructor().newInstance();
-                injectDependencies(protoInstance);
-                if (protoInstance instanceof InitializingBean) {
-                    ((InitializingBean) protoInstance).afterPropertiesSet();
+                return method.invoke(singletonBeans.get(beanClass), args);
+            } catch (InvocationTargetException e) {
+                throw e.getCause();
+            }
+        });
+    }
+
+    /**
+     * Creates all eager singletons in dependency order.
+     * <p>
+     * Each bean is instantiated in its own task as soon as the singletons its constructor needs are ready,
+     * so beans with no-arg constructors are all instantiated at once. Another task then injects its fields
+     * and initializes it when the singletons it depends on are ready, and registers it when it is done.
+     * The method returns once every task has finished, and rethrows the first failure.
+     *
+     * @param graph    The dependency graph of the components.
+     * @param onDemand The prototypes and lazy singletons, which are not created here.
+     * @throws Exception if a bean cannot be created or its initialization fails.
+     */
+    private void createSingletons(DependencyGraph graph, Set<Class<?>> onDemand) throws Exception {
+        List<Class<?>> order = graph.sortTopologically();
+        Map<Class<?>, CompletableFuture<Object>> initialized = new LinkedHashMap<>();
+
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (Class<?> clazz : order) {
+                if (onDemand.contains(clazz)) {
+                    continue;
                 }
-                return (T) protoInstance;
-            } catch (Exception e) {
-                throw new RuntimeException("Failed to create prototype bean", e);
+                InjectionPlan plan = injectionPlans.get(clazz);
+                CompletableFuture<Object> instantiated = allOf(initialized,
+                        graph.singletonDependenciesOf(plan.constructorDependencies()))
+                        .thenApplyAsync(ignored -> {
+                            try {
+                                return plan.instantiate(this::resolveDependency);
+                            } catch (Exception e) {
+                                throw new CompletionException(e);
+                            }
+                        }, executor);
+
+                initialized.put(clazz, instantiated
+                        .thenCombine(allOf(initialized, graph.singletonDependenciesOf(clazz)), (bean, ignored) -> bean)
+                        .thenApplyAsync(bean -> {
+                            try {
+                                initializeBean(plan, bean, this::resolveDependency);
+                            } catch (Exception e) {
+                                throw new CompletionException(e);
+                            }
+                            singletonBeans.register(clazz, bean);
+                            return bean;
+                        }, executor));
             }
-        }
 
-        for (Object obj : singletonBeans.values()) {
-            if (type.isAssignableFrom(obj.getClass())) {
-                return (T) obj;
+            CompletableFuture.allOf(initialized.values().toArray(new CompletableFuture[0])).join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof Exception cause) {
+                throw cause;
             }
+            throw e;
         }
+    }
 
-        throw new RuntimeException("Bean of type " + type.getSimpleName() + " not found.");
+    /**
+     * Returns a future that completes when the given singletons are initialized.
+     */
+    private static CompletableFuture<Void> allOf(Map<Class<?>, CompletableFuture<Object>> initialized, Set<Class<?>> beanClasses) {
+        return CompletableFuture.allOf(beanClasses.stream()
+                .map(initialized::get)
+                .toArray(CompletableFuture[]::new));
     }
 
     /**
-     * Injects dependencies into the fields of a given bean instance.
-     * It scans for fields annotated with @Autowired and sets their values
-     * by retrieving corresponding beans from the container.
+     * Creates, injects and initializes a new instance of a bean.
      *
-     * @param bean The object instance into which dependencies should be injected.
-     * @throws IllegalAccessException if a field cannot be accessed.
+     * @param plan     The injection plan of the bean class.
+     * @param resolver Returns the bean to inject for a dependency.
+     * @return The new bean instance.
+     * @throws Exception if the bean cannot be created or its initialization fails.
      */
-    private void injectDependencies(Object bean) throws IllegalAccessException {
-        for (Field field : bean.getClass().getDeclaredFields()) {
-            if (field.isAnnotationPresent(Autowired.class)) {
-                Class<?> fieldType = field.getType();
-                Object dependency = getBean(fieldType);
-                field.setAccessible(true);
-                field.set(bean, dependency);
-            }
+    private Object createBean(InjectionPlan plan, Function<InjectionPlan.Dependency, Object> resolver) throws Exception {
+        Object bean = plan.instantiate(resolver);
+        initializeBean(plan, bean, resolver);
+        return bean;
+    }
+
+    /**
+     * Injects the @Autowired fields of a bean and calls afterPropertiesSet if it is an InitializingBean.
+     *
+     * @param plan     The injection plan of the bean class.
+     * @param bean     The bean instance.
+     * @param resolver Returns the bean to inject for a dependency.
+     * @throws Exception if the initialization of the bean fails.
+     */
+    private void initializeBean(InjectionPlan plan, Object bean, Function<InjectionPlan.Dependency, Object> resolver) throws Exception {
+        plan.inject(bean, resolver);
+        if (bean instanceof InitializingBean) {
+            ((InitializingBean) bean).afterPropertiesSet();
         }
     }
 
     /**
-     * Scans a given package and its subpackages for classes annotated with @Component.
-     * This method handles resources located in the file system or within JAR files.
+     * Finds the classes annotated with @Component in a given package and its subpackages.
+     * <p>
+     * The package is looked up in every classpath root. If a root has a component index generated
+     * at build time, only the classes listed there are loaded; the index says nothing about other roots,
+     * so roots without an index are still scanned, in the file system or within JAR files.
+     * In both cases, classes are loaded without being initialized.
      *
      * @param packageName The name of the package to scan (e.g., "io.hohichh.app").
      * @return A set of classes marked as components.
@@ -133,32 +279,59 @@ public class MiniApplicationContext {
      * @throws ClassNotFoundException if a class file cannot be loaded.
      */
     private Set<Class<?>> scanPackageForComponents(String packageName) throws IOException, URISyntaxException, ClassNotFoundException {
-        Set<Class<?>> componentClasses = new HashSet<>();
         ClassLoader classLoader = Thread.currentThread().getContextClassLoader();
+        Set<Class<?>> componentClasses = new HashSet<>();
         String path = packageName.replace('.', '/');
         Enumeration<URL> resources = classLoader.getResources(path);
 
         while (resources.hasMoreElements()) {
             URL resourceUrl = resources.nextElement();
-            if ("file".equals(resourceUrl.getProtocol())) {
-                componentClasses.addAll(findClassesInDirectory(new File(resourceUrl.toURI()), packageName));
+            Set<String> indexedClasses = ComponentIndex.readForPackage(resourceUrl, path);
+            if (indexedClasses != null) {
+                componentClasses.addAll(findClassesInIndex(indexedClasses, packageName, classLoader));
+            } else if ("file".equals(resourceUrl.getProtocol())) {
+                componentClasses.addAll(findClassesInDirectory(new File(resourceUrl.toURI()), packageName, classLoader));
             } else if ("jar".equals(resourceUrl.getProtocol())) {
-                componentClasses.addAll(findClassesInJar(resourceUrl, path));
+                componentClasses.addAll(findClassesInJar(resourceUrl, path, classLoader));
             }
         }
         return componentClasses;
     }
 
+    /**
+     * A helper method to load the indexed component classes that belong to a package or its subpackages.
+     *
+     * @param indexedClasses The binary names of the components indexed in one classpath root.
+     * @param packageName    The name of the package to load components from.
+     * @param classLoader    The class loader used to load the classes.
+     * @return A set of component classes from the package.
+     * @throws ClassNotFoundException if an indexed class cannot be found.
+     */
+    private Set<Class<?>> findClassesInIndex(Set<String> indexedClasses, String packageName, ClassLoader classLoader) throws ClassNotFoundException {
+        Set<Class<?>> classes = new HashSet<>();
+        String prefix = packageName + '.';
+        for (String className : indexedClasses) {
+            if (className.startsWith(prefix)) {
+                Class<?> clazz = Class.forName(className, false, classLoader);
+                if (clazz.isAnnotationPresent(Component.class)) {
+                    classes.add(clazz);
+                }
+            }
+        }
+        return classes;
+    }
+
     /**
      * A helper method to find component classes within a directory on the file system.
      * It recursively scans directories to find all .class files.
      *
      * @param directory   The base directory to start scanning from.
      * @param packageName The corresponding package name for the current directory.
+     * @param classLoader The class loader used to load the classes.
      * @return A set of component classes found in the directory.
      * @throws ClassNotFoundException if a class definition cannot be found.
      */
-    private Set<Class<?>> findClassesInDirectory(File directory, String packageName) throws ClassNotFoundException {
+    private Set<Class<?>> findClassesInDirectory(File directory, String packageName, ClassLoader classLoader) throws ClassNotFoundException {
         Set<Class<?>> classes = new HashSet<>();
         if (!directory.exists()) {
             return classes;
@@ -171,10 +344,10 @@ public class MiniApplicationContext {
 
         for (File file : files) {
             if (file.isDirectory()) {
-                classes.addAll(findClassesInDirectory(file, packageName + "." + file.getName()));
+                classes.addAll(findClassesInDirectory(file, packageName + "." + file.getName(), classLoader));
             } else if (file.getName().endsWith(".class")) {
                 String className = packageName + '.' + file.getName().substring(0, file.getName().length() - 6);
-                Class<?> clazz = Class.forName(className);
+                Class<?> clazz = Class.forName(className, false, classLoader);
                 if (clazz.isAnnotationPresent(Component.class)) {
                     classes.add(clazz);
                 }
@@ -188,11 +361,12 @@ public class MiniApplicationContext {
      *
      * @param jarUrl      The URL of the JAR file to scan.
      * @param packagePath The resource path of the package within the JAR (e.g., "io/hohichh/app").
+     * @param classLoader The class loader used to load the classes.
      * @return A set of component classes found in the JAR.
      * @throws IOException            if an I/O error occurs while reading the JAR.
      * @throws ClassNotFoundException if a class definition cannot be found.
      */
-    private Set<Class<?>> findClassesInJar(URL jarUrl, String packagePath) throws IOException, ClassNotFoundException {
+    private Set<Class<?>> findClassesInJar(URL jarUrl, String packagePath, ClassLoader classLoader) throws IOException, ClassNotFoundException {
         Set<Class<?>> classes = new HashSet<>();
         try (JarInputStream jarStream = new JarInputStream(jarUrl.openStream())) {
             JarEntry entry;
@@ -200,7 +374,7 @@ public class MiniApplicationContext {
                 String entryName = entry.getName();
                 if (entryName.startsWith(packagePath) && entryName.endsWith(".class")) {
                     String className = entryName.substring(0, entryName.length() - 6).replace('/', '.');
-                    Class<?> clazz = Class.forName(className);
+                    Class<?> clazz = Class.forName(className, false, classLoader);
                     if (clazz.isAnnotationPresent(Component.class)) {
                         classes.add(clazz);
                     }
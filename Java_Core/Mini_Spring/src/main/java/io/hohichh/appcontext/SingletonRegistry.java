@@ -0,0 +1,112 @@
+package io.hohichh.appcontext;
+
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Holds the singleton beans of a context and can be read by any number of threads.
+ * <p>
+ * A singleton is either registered as a ready instance or as a factory that creates it on first use.
+ * Reading a created singleton is a single {@link ConcurrentHashMap#get} and takes no locks.
+ * A lazily created singleton is built exactly once: the first thread that asks for it runs the
+ * factory, and threads that ask at the same time wait for that result instead of creating their own.
+ */
+final class SingletonRegistry {
+
+    private final ConcurrentMap<Class<?>, Object> singletons = new ConcurrentHashMap<>();
+
+    /**
+     * Registers a created singleton.
+     *
+     * @param beanClass The component class.
+     * @param bean      The singleton instance.
+     */
+    void register(Class<?> beanClass, Object bean) {
+        singletons.put(beanClass, bean);
+    }
+
+    /**
+     * Registers a singleton that is created by the factory when it is first requested.
+     *
+     * @param beanClass The component class.
+     * @param factory   Creates and initializes the singleton.
+     */
+    void registerLazy(Class<?> beanClass, Callable<Object> factory) {
+        singletons.put(beanClass, new PendingSingleton(beanClass, factory));
+    }
+
+    /**
+     * Returns whether the singleton of a class has been created.
+     *
+     * @param beanClass The component class.
+     * @return {@code true} if the singleton is registered and created.
+     */
+    boolean isCreated(Class<?> beanClass) {
+        Object value = singletons.get(beanClass);
+        return value != null && !(value instanceof PendingSingleton);
+    }
+
+    /**
+     * Returns the singleton of a class, creating it first if it was registered lazily.
+     *
+     * @param beanClass The component class.
+     * @return The singleton instance, or null if no singleton is registered for the class.
+     * @throws RuntimeException if the factory of a lazy singleton fails.
+     */
+    Object get(Class<?> beanClass) {
+        Object value = singletons.get(beanClass);
+        if (value instanceof PendingSingleton pending) {
+            return pending.get();
+        }
+        return value;
+    }
+
+    /**
+     * A singleton that has not been created yet. The thread that claims it runs the factory,
+     * every other thread waits on the same future. Once created, the placeholder is replaced
+     * by the instance, so later reads do not go through it.
+     */
+    private final class PendingSingleton {
+        private final Class<?> beanClass;
+        private final Callable<Object> factory;
+        private final CompletableFuture<Object> result = new CompletableFuture<>();
+        private final AtomicReference<Thread> creator = new AtomicReference<>();
+
+        private PendingSingleton(Class<?> beanClass, Callable<Object> factory) {
+            this.beanClass = beanClass;
+            this.factory = factory;
+        }
+
+        private Object get() {
+            Thread current = Thread.currentThread();
+            if (creator.compareAndSet(null, current)) {
+                create();
+            } else if (creator.get() == current && !result.isDone()) {
+                throw new RuntimeException("Singleton " + beanClass.getSimpleName() + " is currently in creation.");
+            }
+            try {
+                return result.join();
+            } catch (CompletionException e) {
+                if (e.getCause() instanceof RuntimeException cause) {
+                    throw cause;
+                }
+                throw new RuntimeException("Failed to create singleton " + beanClass.getSimpleName(), e.getCause());
+            }
+        }
+
+        private void create() {
+            try {
+                Object bean = factory.call();
+                singletons.replace(beanClass, this, bean);
+                result.complete(bean);
+            } catch (Throwable e) {
+                singletons.replace(beanClass, this, new PendingSingleton(beanClass, factory));
+                result.completeExceptionally(e);
+            }
+        }
+    }
+}
@@ -0,0 +1,80 @@
+package io.hohichh.appcontext.index;
+
+import java.io.BufferedReader;
+import java.io.FileNotFoundException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.net.URI;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.util.LinkedHashSet;
+import java.util.Set;
+
+/**
+ * The component index written by {@link ComponentIndexProcessor} at build time.
+ * <p>
+ * The index is a plain text resource listing the binary names of all {@code @Component} classes
+ * of a compilation unit, one per line. Every jar or output directory may contain its own index,
+ * which only describes the classes of that jar or directory. An index is therefore read per classpath root,
+ * and roots without one still have to be scanned.
+ */
+public final class ComponentIndex {
+
+    /** The resource path of the index inside a jar or class output directory. */
+    public static final String LOCATION = "META-INF/mini-spring.components";
+
+    /** System property that makes the context ignore the index and scan the classpath instead. */
+    public static final String IGNORE_PROPERTY = "minispring.index.ignore";
+
+    private ComponentIndex() {
+    }
+
+    /**
+     * Reads the index of the classpath root that contains a package.
+     *
+     * @param packageUrl  The URL of the package in one classpath root, as returned by {@link ClassLoader#getResources}.
+     * @param packagePath The resource path of the package (e.g., "io/hohichh/app").
+     * @return The binary names listed in the index of that root, or {@code null} if the root has no index
+     * or the index is disabled through {@link #IGNORE_PROPERTY}.
+     * @throws IOException if the index resource exists but cannot be read.
+     */
+    public static Set<String> readForPackage(URL packageUrl, String packagePath) throws IOException {
+        if (Boolean.getBoolean(IGNORE_PROPERTY)) {
+            return null;
+        }
+        String url = packageUrl.toString();
+        if (url.endsWith("/")) {
+            url = url.substring(0, url.length() - 1);
+        }
+        if (!url.endsWith(packagePath)) {
+            return null;
+        }
+        URL index = URI.create(url.substring(0, url.length() - packagePath.length()) + LOCATION).toURL();
+        try (InputStream in = index.openStream()) {
+            return read(in);
+        } catch (FileNotFoundException e) {
+            return null;
+        }
+    }
+
+    /**
+     * Parses an index, skipping blank lines and lines starting with {@code #}.
+     *
+     * @param in The content of an index resource.
+     * @return The binary names listed in the index, in order.
+     * @throws IOException if the content cannot be read.
+     */
+    public static Set<String> read(InputStream in) throws IOException {
+        Set<String> classNames = new LinkedHashSet<>();
+        BufferedReader reader = new BufferedReader(new InputStreamReader(in, StandardCharsets.UTF_8));
+        String line;
+        while ((line = reader.readLine()) != null) {
+            line = line.strip();
+            if (!line.isEmpty() && !line.startsWith("#")) {
+                classNames.add(line);
+            }
+        }
+        return classNames;
+    }
+}
@@ -0,0 +1,124 @@
+package io.hohichh.appcontext.index;
+
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.RoundEnvironment;
+import javax.annotation.processing.SupportedAnnotationTypes;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.util.ElementFilter;
+import javax.lang.model.util.Elements;
+import javax.tools.Diagnostic;
+import javax.tools.FileObject;
+import javax.tools.StandardLocation;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.Writer;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.TreeSet;
+
+/**
+ * An annotation processor that records every class annotated with {@code @Component}
+ * in the {@link ComponentIndex} resource, so the context can find its components
+ * without walking the classpath at startup.
+ * <p>
+ * The names are collected over all processing rounds and written once, sorted,
+ * when processing is over. An incremental build only compiles some of the classes, so the index
+ * already in the class output is merged in: its entries are kept unless their class was compiled again
+ * or no longer exists. The processor is registered for all annotations ({@code "*"}) but claims none,
+ * so that it also runs, and rewrites a stale index, when a build compiles no component at all,
+ * while other processors still see every annotation. It is registered as a service,
+ * so it runs automatically for every module that has Mini_Spring on its compile classpath.
+ */
+@SupportedAnnotationTypes("*")
+public class ComponentIndexProcessor extends AbstractProcessor {
+
+    static final String COMPONENT_ANNOTATION = "io.hohichh.appcontext.annotations.Component";
+
+    private final Set<String> components = new TreeSet<>();
+    private final Set<String> compiledTypes = new HashSet<>();
+
+    @Override
+    public SourceVersion getSupportedSourceVersion() {
+        return SourceVersion.latestSupported();
+    }
+
+    @Override
+    public boolean process(Set<? extends TypeElement> annotations, RoundEnvironment roundEnv) {
+        if (roundEnv.processingOver()) {
+            writeIndex();
+            return false;
+        }
+        Elements elements = processingEnv.getElementUtils();
+        for (TypeElement type : ElementFilter.typesIn(roundEnv.getRootElements())) {
+            collectCompiledTypes(type, elements);
+        }
+        TypeElement component = elements.getTypeElement(COMPONENT_ANNOTATION);
+        if (component != null) {
+            for (Element element : roundEnv.getElementsAnnotatedWith(component)) {
+                if (element.getKind() == ElementKind.CLASS) {
+                    components.add(elements.getBinaryName((TypeElement) element).toString());
+                }
+            }
+        }
+        return false;
+    }
+
+    private void collectCompiledTypes(TypeElement type, Elements elements) {
+        compiledTypes.add(elements.getBinaryName(type).toString());
+        for (TypeElement nested : ElementFilter.typesIn(type.getEnclosedElements())) {
+            collectCompiledTypes(nested, elements);
+        }
+    }
+
+    /**
+     * Merges the collected class names with the index from an earlier build and writes the result
+     * to the class output. Nothing is written if there is neither a component nor an earlier index.
+     */
+    private void writeIndex() {
+        Set<String> previous = readPreviousIndex();
+        Set<String> merged = new TreeSet<>(components);
+        Elements elements = processingEnv.getElementUtils();
+        for (String className : previous) {
+            if (!compiledTypes.contains(className)
+                    && elements.getTypeElement(className.replace('$', '.')) != null) {
+                merged.add(className);
+            }
+        }
+        if (merged.isEmpty() && previous.isEmpty()) {
+            return;
+        }
+        try {
+            FileObject index = processingEnv.getFiler()
+                    .createResource(StandardLocation.CLASS_OUTPUT, "", ComponentIndex.LOCATION);
+            try (Writer writer = index.openWriter()) {
+                for (String component : merged) {
+                    writer.write(component);
+                    writer.write('\n');
+                }
+            }
+        } catch (IOException e) {
+            processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR,
+                    "Failed to write " + ComponentIndex.LOCATION + ": " + e.getMessage());
+        }
+    }
+
+    /**
+     * Reads the index left in the class output by an earlier build.
+     *
+     * @return The class names of the earlier index, or an empty set if there is none.
+     */
+    private Set<String> readPreviousIndex() {
+        try {
+            FileObject index = processingEnv.getFiler()
+                    .getResource(StandardLocation.CLASS_OUTPUT, "", ComponentIndex.LOCATION);
+            try (InputStream in = index.openInputStream()) {
+                return ComponentIndex.read(in);
+            }
+        } catch (IOException e) {
+            return Set.of();
+        }
+    }
+}
@@ -0,0 +1,107 @@
+package io.hohichh.appcontext;
+
+import io.hohichh.appcontext.annotations.Component;
+import io.hohichh.appcontext.annotations.Primary;
+import io.hohichh.appcontext.ctor.Car;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class BeanTypeIndexTest {
+
+    interface Shape {
+    }
+
+    interface Polygon extends Shape {
+    }
+
+    interface Marker {
+    }
+
+    @Component
+    static class Square implements Polygon {
+    }
+
+    @Component("circle")
+    static class Round implements Shape {
+    }
+
+    @Component
+    @Primary
+    static class FirstPrimary implements Marker {
+    }
+
+    @Component
+    @Primary
+    static class SecondPrimary implements Marker {
+    }
+
+    @Component("same")
+    static class SameName {
+    }
+
+    @Component("same")
+    static class AlsoSameName {
+    }
+
+    @Test
+    @DisplayName("a bean should be found by an interface that its own interface extends")
+    void testResolve_bySuperInterface_shouldFindBean() {
+        BeanTypeIndex index = new BeanTypeIndex(List.of(Square.class));
+
+        assertEquals(Square.class, index.resolve(Shape.class));
+        assertEquals(Square.class, index.resolve(Polygon.class));
+    }
+
+    @Test
+    @DisplayName("an ambiguous lookup should fail with the names of all candidates")
+    void testResolve_ambiguous_shouldListCandidates() {
+        BeanTypeIndex index = new BeanTypeIndex(List.of(Square.class, Round.class));
+
+        RuntimeException e = assertThrows(RuntimeException.class, () -> index.resolve(Shape.class));
+        assertEquals("Expected a single bean of type Shape but found 2: circle, square. "
+                + "Mark one of them with @Primary or use @Qualifier.", e.getMessage());
+    }
+
+    @Test
+    @DisplayName("two @Primary candidates should still be ambiguous")
+    void testResolve_twoPrimaryBeans_shouldFail() {
+        BeanTypeIndex index = new BeanTypeIndex(List.of(FirstPrimary.class, SecondPrimary.class));
+
+        RuntimeException e = assertThrows(RuntimeException.class, () -> index.resolve(Marker.class));
+        assertTrue(e.getMessage().contains("found 2: firstPrimary, secondPrimary"), e.getMessage());
+        assertEquals(FirstPrimary.class, index.resolve(FirstPrimary.class));
+    }
+
+    @Test
+    @DisplayName("a name lookup should fail if the named bean does not have the requested type")
+    void testResolve_byNameWithWrongType_shouldFail() {
+        BeanTypeIndex index = new BeanTypeIndex(List.of(Square.class, Round.class));
+
+        assertEquals(Round.class, index.resolve(Shape.class, "circle"));
+        RuntimeException e = assertThrows(RuntimeException.class, () -> index.resolve(Polygon.class, "circle"));
+        assertEquals("Bean of type Polygon named 'circle' not found.", e.getMessage());
+    }
+
+    @Test
+    @DisplayName("getBean(name, type) should fail if the named bean does not have the requested type")
+    void testGetBean_byNameWithWrongType_shouldFail() {
+        MiniApplicationContext context = new MiniApplicationContext("io.hohichh.appcontext.ctor");
+
+        RuntimeException e = assertThrows(RuntimeException.class, () -> context.getBean("electric", Car.class));
+        assertEquals("Bean of type Car named 'electric' not found.", e.getMessage());
+    }
+
+    @Test
+    @DisplayName("two components with the same name should be rejected")
+    void testConstructor_duplicateBeanName_shouldFail() {
+        RuntimeException e = assertThrows(RuntimeException.class,
+                () -> new BeanTypeIndex(List.of(SameName.class, AlsoSameName.class)));
+
+        assertEquals("Duplicate bean name 'same' for " + AlsoSameName.class.getName()
+                + " and " + SameName.class.getName(), e.getMessage());
+    }
+}
@@ -0,0 +1,80 @@
+package io.hohichh.appcontext;
+
+import io.hohichh.appcontext.stress.StressRepository;
+import io.hohichh.appcontext.stress.StressService;
+import io.hohichh.appcontext.stress.StressTask;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class MiniApplicationContextConcurrencyTest {
+
+    private static final int THREADS = Math.max(8, Runtime.getRuntime().availableProcessors() * 2);
+    private static final int LOOKUPS_PER_THREAD = 20_000;
+
+    private MiniApplicationContext context;
+
+    @BeforeEach
+    void setUp() {
+        StressRepository.INSTANCES.set(0);
+        StressService.INSTANCES.set(0);
+        context = new MiniApplicationContext("io.hohichh.appcontext.stress");
+    }
+
+    @Test
+    @DisplayName("startup should create every singleton exactly once")
+    void testStartup_shouldCreateEverySingletonOnce() {
+        assertEquals(1, StressRepository.INSTANCES.get());
+        assertEquals(1, StressService.INSTANCES.get());
+        assertSame(context.getBean(StressRepository.class), context.getBean(StressService.class).getRepository());
+    }
+
+    @Test
+    @DisplayName("concurrent getBean should always return the same singletons and fresh, injected prototypes")
+    void testGetBean_fromManyThreads_shouldBeConsistent() throws Exception {
+        StressService service = context.getBean(StressService.class);
+        StressRepository repository = context.getBean(StressRepository.class);
+        Set<StressTask> tasks = Collections.synchronizedSet(Collections.newSetFromMap(new IdentityHashMap<>()));
+
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<?>> futures = new ArrayList<>();
+        try (ExecutorService executor = Executors.newFixedThreadPool(THREADS)) {
+            for (int t = 0; t < THREADS; t++) {
+                futures.add(executor.submit(() -> {
+                    start.await();
+                    for (int i = 0; i < LOOKUPS_PER_THREAD; i++) {
+                        assertSame(service, context.getBean(StressService.class));
+                        assertSame(service, context.getBean(Runnable.class));
+                        assertSame(repository, context.getBean(StressRepository.class));
+                        if (i % 10 == 0) {
+                            StressTask task = context.getBean(StressTask.class);
+                            assertSame(service, task.getService());
+                            tasks.add(task);
+                        }
+                    }
+                    return null;
+                }));
+            }
+            start.countDown();
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        }
+
+        assertEquals(THREADS * LOOKUPS_PER_THREAD / 10, tasks.size());
+        assertEquals(1, StressRepository.INSTANCES.get());
+        assertEquals(1, StressService.INSTANCES.get());
+    }
+}
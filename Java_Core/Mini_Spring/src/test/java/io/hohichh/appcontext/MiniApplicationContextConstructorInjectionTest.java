@@ -0,0 +1,71 @@
+package io.hohichh.appcontext;
+
+import io.hohichh.appcontext.ctor.Car;
+import io.hohichh.appcontext.ctor.ElectricEngine;
+import io.hohichh.appcontext.ctor.Garage;
+import io.hohichh.appcontext.ctor.PetrolEngine;
+import io.hohichh.appcontext.ctor.Trip;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class MiniApplicationContextConstructorInjectionTest {
+
+    private MiniApplicationContext context;
+
+    @BeforeEach
+    void setUp() {
+        context = new MiniApplicationContext("io.hohichh.appcontext.ctor");
+    }
+
+    @Test
+    @DisplayName("the only constructor of a bean should be used for injection")
+    void testSingleConstructor_shouldBeInjected() {
+        Car car = context.getBean(Car.class);
+
+        assertSame(context.getBean(PetrolEngine.class), car.getEngine());
+    }
+
+    @Test
+    @DisplayName("the @Autowired constructor should be chosen and its parameters should honour @Qualifier")
+    void testAutowiredConstructor_shouldBeChosen() {
+        Garage garage = context.getBean(Garage.class);
+
+        assertSame(context.getBean(Car.class), garage.getCar());
+        assertSame(context.getBean(ElectricEngine.class), garage.getSpare());
+    }
+
+    @Test
+    @DisplayName("a prototype should get constructor and field dependencies on every creation")
+    void testPrototype_shouldCombineConstructorAndFieldInjection() {
+        Trip first = context.getBean(Trip.class);
+        Trip second = context.getBean(Trip.class);
+
+        assertNotSame(first, second);
+        assertSame(context.getBean(Car.class), first.getCar());
+        assertSame(context.getBean(Garage.class), first.getGarage());
+        assertSame(first.getCar(), second.getCar());
+    }
+
+    @Test
+    @DisplayName("constructors that depend on each other should be rejected with the cycle in the message")
+    void testConstructorCycle_shouldFail() {
+        RuntimeException e = assertThrows(RuntimeException.class,
+                () -> new MiniApplicationContext("io.hohichh.appcontext.ctorcycle"));
+
+        assertTrue(e.getCause().getMessage().startsWith("Circular dependency detected"));
+    }
+
+    @Test
+    @DisplayName("a final @Autowired field should be rejected with the field in the message")
+    void testFinalAutowiredField_shouldFail() {
+        RuntimeException e = assertThrows(RuntimeException.class,
+                () -> new MiniApplicationContext("io.hohichh.appcontext.finalfield"));
+
+        assertInstanceOf(IllegalStateException.class, e.getCause());
+        assertEquals("@Autowired field io.hohichh.appcontext.finalfield.AccountService.ledger is final;"
+                + " inject it through the constructor instead", e.getCause().getMessage());
+    }
+}
@@ -0,0 +1,74 @@
+package io.hohichh.appcontext;
+
+import io.hohichh.appcontext.lazy.AuditClient;
+import io.hohichh.appcontext.lazy.Auditor;
+import io.hohichh.appcontext.lazy.Clock;
+import io.hohichh.appcontext.lazy.ExpensiveClock;
+import io.hohichh.appcontext.lazy.Scheduler;
+import io.hohichh.appcontext.lazy.UnusedService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.lang.reflect.Proxy;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class MiniApplicationContextLazyTest {
+
+    private MiniApplicationContext context;
+
+    @BeforeEach
+    void setUp() {
+        ExpensiveClock.INSTANCES.set(0);
+        Auditor.INSTANCES.set(0);
+        UnusedService.INSTANCES.set(0);
+        context = new MiniApplicationContext("io.hohichh.appcontext.lazy");
+    }
+
+    @Test
+    @DisplayName("lazy singletons that nothing needs at startup should not be created")
+    void testStartup_shouldNotCreateLazySingletons() {
+        assertEquals(0, ExpensiveClock.INSTANCES.get());
+        assertEquals(0, UnusedService.INSTANCES.get());
+    }
+
+    @Test
+    @DisplayName("an interface-typed field should get a proxy that creates the lazy singleton on first call")
+    void testInjection_byInterface_shouldDeferCreationToFirstCall() {
+        Clock clock = context.getBean(Scheduler.class).getClock();
+        assertTrue(Proxy.isProxyClass(clock.getClass()));
+        assertEquals(0, ExpensiveClock.INSTANCES.get());
+
+        assertEquals(42, clock.now());
+        assertEquals(42, clock.now());
+        assertEquals(1, ExpensiveClock.INSTANCES.get());
+        assertSame(context.getBean(ExpensiveClock.class), context.getBean(Clock.class));
+        assertEquals(1, ExpensiveClock.INSTANCES.get());
+    }
+
+    @Test
+    @DisplayName("exceptions thrown by the lazy singleton should pass through the proxy unwrapped")
+    void testProxy_shouldRethrowTargetException() {
+        Clock clock = context.getBean(Scheduler.class).getClock();
+        assertThrows(UnsupportedOperationException.class, clock::fail);
+    }
+
+    @Test
+    @DisplayName("getBean should create a lazy singleton once, on the first request")
+    void testGetBean_shouldCreateLazySingletonOnce() {
+        UnusedService first = context.getBean(UnusedService.class);
+        UnusedService second = context.getBean(UnusedService.class);
+
+        assertSame(first, second);
+        assertEquals(1, UnusedService.INSTANCES.get());
+    }
+
+    @Test
+    @DisplayName("a class-typed field cannot be proxied, so the lazy singleton should be created on injection")
+    void testInjection_byClass_shouldCreateSingleton() {
+        assertEquals(1, Auditor.INSTANCES.get());
+        assertSame(context.getBean(Auditor.class), context.getBean(AuditClient.class).getAuditor());
+        assertEquals(1, Auditor.INSTANCES.get());
+    }
+}
@@ -0,0 +1,35 @@
+package io.hohichh.appcontext;
+
+import io.hohichh.appcontext.parallelinit.InitProbe;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class MiniApplicationContextStartupTest {
+
+    @Test
+    @DisplayName("singletons that depend on each other through @Autowired fields should be rejected with the cycle in the message")
+    void testFieldCycle_shouldFail() {
+        RuntimeException e = assertThrows(RuntimeException.class,
+                () -> new MiniApplicationContext("io.hohichh.appcontext.fieldcycle"));
+
+        String message = e.getCause().getMessage();
+        assertTrue(message.startsWith("Circular dependency detected"), message);
+        assertTrue(message.contains("Author") && message.contains("Book") && message.contains("Publisher"), message);
+    }
+
+    @Test
+    @DisplayName("independent singletons should be initialized concurrently and before the beans that depend on them")
+    void testStartup_shouldInitializeIndependentBeansConcurrently() {
+        InitProbe.reset();
+
+        new MiniApplicationContext("io.hohichh.appcontext.parallelinit");
+
+        assertEquals(Set.of("CacheWarmer", "IndexWarmer"), InitProbe.OVERLAPPED);
+        assertEquals(Set.of("CacheWarmer", "IndexWarmer"), InitProbe.seenByDashboard);
+        assertEquals(Set.of("CacheWarmer", "IndexWarmer", "Dashboard"), InitProbe.FINISHED);
+    }
+}
@@ -0,0 +1,98 @@
+package io.hohichh.appcontext;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SingletonRegistryTest {
+
+    private static final int THREADS = Math.max(8, Runtime.getRuntime().availableProcessors() * 2);
+
+    private SingletonRegistry registry;
+
+    @BeforeEach
+    void setUp() {
+        registry = new SingletonRegistry();
+    }
+
+    @Test
+    @DisplayName("get should return registered singletons and null for unknown classes")
+    void testGet_shouldReturnRegisteredSingleton() {
+        Object bean = new Object();
+        registry.register(Object.class, bean);
+
+        assertSame(bean, registry.get(Object.class));
+        assertTrue(registry.isCreated(Object.class));
+        assertNull(registry.get(String.class));
+        assertFalse(registry.isCreated(String.class));
+    }
+
+    @Test
+    @DisplayName("a lazy singleton requested by many threads at once should be created exactly once")
+    void testGet_lazySingletonUnderRace_shouldCreateOnce() throws Exception {
+        AtomicInteger creations = new AtomicInteger();
+        registry.registerLazy(Object.class, () -> {
+            creations.incrementAndGet();
+            Thread.sleep(50);
+            return new Object();
+        });
+        assertEquals(0, creations.get());
+        assertFalse(registry.isCreated(Object.class));
+
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<Object>> futures = new ArrayList<>();
+        try (ExecutorService executor = Executors.newFixedThreadPool(THREADS)) {
+            for (int t = 0; t < THREADS; t++) {
+                futures.add(executor.submit(() -> {
+                    start.await();
+                    return registry.get(Object.class);
+                }));
+            }
+            start.countDown();
+            Object first = futures.getFirst().get();
+            for (Future<Object> future : futures) {
+                assertSame(first, future.get());
+            }
+        }
+
+        assertEquals(1, creations.get());
+        assertTrue(registry.isCreated(Object.class));
+    }
+
+    @Test
+    @DisplayName("a failed lazy creation should be rethrown and retried on the next request")
+    void testGet_lazySingletonFails_shouldRetryNextTime() {
+        AtomicInteger attempts = new AtomicInteger();
+        registry.registerLazy(Object.class, () -> {
+            if (attempts.incrementAndGet() == 1) {
+                throw new IllegalStateException("first attempt");
+            }
+            return "created";
+        });
+
+        assertThrows(IllegalStateException.class, () -> registry.get(Object.class));
+        assertFalse(registry.isCreated(Object.class));
+        assertEquals("created", registry.get(Object.class));
+        assertEquals("created", registry.get(Object.class));
+        assertEquals(2, attempts.get());
+    }
+
+    @Test
+    @DisplayName("a lazy singleton that requests itself while being created should fail instead of deadlocking")
+    void testGet_lazySingletonRequestsItself_shouldThrow() {
+        registry.registerLazy(Object.class, () -> registry.get(Object.class));
+
+        RuntimeException e = assertThrows(RuntimeException.class, () -> registry.get(Object.class));
+        assertTrue(e.getMessage().contains("currently in creation"));
+    }
+}
@@ -0,0 +1,17 @@
+package io.hohichh.appcontext.ctor;
+
+import io.hohichh.appcontext.annotations.Component;
+
+@Component
+public class Car {
+
+    private final Engine engine;
+
+    public Car(Engine engine) {
+        this.engine = engine;
+    }
+
+    public Engine getEngine() {
+        return engine;
+    }
+}
@@ -0,0 +1,12 @@
+package io.hohichh.appcontext.ctor;
+
+import io.hohichh.appcontext.annotations.Component;
+
+@Component("electric")
+public class ElectricEngine implements Engine {
+
+    @Override
+    public String name() {
+        return "electric";
+    }
+}
@@ -0,0 +1,5 @@
+package io.hohichh.appcontext.ctor;
+
+public interface Engine {
+    String name();
+}
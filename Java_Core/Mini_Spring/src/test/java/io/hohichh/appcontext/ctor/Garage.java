@@ -0,0 +1,30 @@
+package io.hohichh.appcontext.ctor;
+
+import io.hohichh.appcontext.annotations.Autowired;
+import io.hohichh.appcontext.annotations.Component;
+import io.hohichh.appcontext.annotations.Qualifier;
+
+@Component
+public class Garage {
+
+    private final Car car;
+    private final Engine spare;
+
+    public Garage() {
+        this(null, null);
+    }
+
+    @Autowired
+    public Garage(Car car, @Qualifier("electric") Engine spare) {
+        this.car = car;
+        this.spare = spare;
+    }
+
+    public Car getCar() {
+        return car;
+    }
+
+    public Engine getSpare() {
+        return spare;
+    }
+}
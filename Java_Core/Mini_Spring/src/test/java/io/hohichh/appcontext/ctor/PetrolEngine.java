@@ -0,0 +1,14 @@
+package io.hohichh.appcontext.ctor;
+
+import io.hohichh.appcontext.annotations.Component;
+import io.hohichh.appcontext.annotations.Primary;
+
+@Component
+@Primary
+public class PetrolEngine implements Engine {
+
+    @Override
+    public String name() {
+        return "petrol";
+    }
+}
@@ -0,0 +1,27 @@
+package io.hohichh.appcontext.ctor;
+
+import io.hohichh.appcontext.annotations.Autowired;
+import io.hohichh.appcontext.annotations.Component;
+import io.hohichh.appcontext.annotations.Scope;
+
+@Component
+@Scope("prototype")
+public class Trip {
+
+    private final Car car;
+
+    @Autowired
+    private Garage garage;
+
+    public Trip(Car car) {
+        this.car = car;
+    }
+
+    public Car getCar() {
+        return car;
+    }
+
+    public Garage getGarage() {
+        return garage;
+    }
+}
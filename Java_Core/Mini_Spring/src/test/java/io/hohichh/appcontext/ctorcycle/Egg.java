@@ -0,0 +1,10 @@
+package io.hohichh.appcontext.ctorcycle;
+
+import io.hohichh.appcontext.annotations.Component;
+
+@Component
+public class Egg {
+
+    public Egg(Chicken chicken) {
+    }
+}
@@ -0,0 +1,11 @@
+package io.hohichh.appcontext.fieldcycle;
+
+import io.hohichh.appcontext.annotations.Autowired;
+import io.hohichh.appcontext.annotations.Component;
+
+@Component
+public class Book {
+
+    @Autowired
+    private Publisher publisher;
+}
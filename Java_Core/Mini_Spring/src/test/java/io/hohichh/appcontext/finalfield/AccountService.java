@@ -0,0 +1,19 @@
+package io.hohichh.appcontext.finalfield;
+
+import io.hohichh.appcontext.annotations.Autowired;
+import io.hohichh.appcontext.annotations.Component;
+
+@Component
+public class AccountService {
+
+    @Autowired
+    private final Ledger ledger;
+
+    public AccountService(Ledger ledger) {
+        this.ledger = ledger;
+    }
+
+    public Ledger getLedger() {
+        return ledger;
+    }
+}
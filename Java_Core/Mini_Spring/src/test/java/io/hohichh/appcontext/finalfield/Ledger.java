@@ -0,0 +1,7 @@
+package io.hohichh.appcontext.finalfield;
+
+import io.hohichh.appcontext.annotations.Component;
+
+@Component
+public class Ledger {
+}
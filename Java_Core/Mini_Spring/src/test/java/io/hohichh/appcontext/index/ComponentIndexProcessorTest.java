@@ -0,0 +1,65 @@
+package io.hohichh.appcontext.index;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ComponentIndexProcessorTest {
+
+    private static final String A = "io.hohichh.appcontext.gen.A";
+    private static final String B = "io.hohichh.appcontext.gen.B";
+    private static final String C = "io.hohichh.appcontext.gen.C";
+
+    @TempDir
+    Path output;
+
+    private List<String> index() throws IOException {
+        try (InputStream in = Files.newInputStream(output.resolve(ComponentIndex.LOCATION))) {
+            return List.copyOf(ComponentIndex.read(in));
+        }
+    }
+
+    @Test
+    @DisplayName("a build that compiles only some classes should keep the components indexed by earlier builds")
+    void testIncrementalBuild_shouldMergeWithExistingIndex() throws IOException {
+        Sources.compile(output, true, Map.of(
+                A, Sources.component(A, true),
+                B, Sources.component(B, true)));
+        assertEquals(List.of(A, B), index());
+
+        Sources.compile(output, true, Map.of(C, Sources.component(C, true)));
+
+        assertEquals(List.of(A, B, C), index());
+    }
+
+    @Test
+    @DisplayName("a build that compiles no component should drop the classes that are no longer components")
+    void testBuildWithoutComponents_shouldRewriteStaleIndex() throws IOException {
+        Sources.compile(output, true, Map.of(
+                A, Sources.component(A, true),
+                B, Sources.component(B, true)));
+
+        Sources.compile(output, true, Map.of(A, Sources.component(A, false)));
+        assertEquals(List.of(B), index());
+
+        Sources.compile(output, true, Map.of(B, Sources.component(B, false)));
+        assertEquals(List.of(), index());
+    }
+
+    @Test
+    @DisplayName("a module without components should get no index")
+    void testBuildWithoutAnyComponent_shouldNotWriteIndex() {
+        Sources.compile(output, true, Map.of(A, Sources.component(A, false)));
+
+        assertFalse(Files.exists(output.resolve(ComponentIndex.LOCATION)));
+    }
+}
@@ -0,0 +1,53 @@
+package io.hohichh.appcontext.index;
+
+import io.hohichh.appcontext.MiniApplicationContext;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ComponentIndexTest {
+
+    private static final String PACKAGE = "io.hohichh.appcontext.roots";
+    private static final String INDEXED = PACKAGE + ".IndexedService";
+    private static final String UNLISTED = PACKAGE + ".UnlistedService";
+    private static final String SCANNED = PACKAGE + ".ScannedService";
+
+    @TempDir
+    Path indexedRoot;
+
+    @TempDir
+    Path scannedRoot;
+
+    @Test
+    @DisplayName("an index should only be trusted for its own classpath root, and roots without one should be scanned")
+    void testIndex_shouldOnlyCoverItsOwnRoot() throws Exception {
+        Sources.compile(indexedRoot, false, Map.of(
+                INDEXED, Sources.component(INDEXED, true),
+                UNLISTED, Sources.component(UNLISTED, true)));
+        Path index = indexedRoot.resolve(ComponentIndex.LOCATION);
+        Files.createDirectories(index.getParent());
+        Files.writeString(index, INDEXED + "\n");
+        Sources.compile(scannedRoot, false, Map.of(SCANNED, Sources.component(SCANNED, true)));
+
+        ClassLoader previous = Thread.currentThread().getContextClassLoader();
+        try (URLClassLoader loader = new URLClassLoader(
+                new URL[]{indexedRoot.toUri().toURL(), scannedRoot.toUri().toURL()}, getClass().getClassLoader())) {
+            Thread.currentThread().setContextClassLoader(loader);
+            MiniApplicationContext context = new MiniApplicationContext(PACKAGE);
+
+            assertNotNull(context.getBean(loader.loadClass(INDEXED)));
+            assertNotNull(context.getBean(loader.loadClass(SCANNED)));
+            assertThrows(RuntimeException.class, () -> context.getBean(loader.loadClass(UNLISTED)));
+        } finally {
+            Thread.currentThread().setContextClassLoader(previous);
+        }
+    }
+}
@@ -0,0 +1,62 @@
+package io.hohichh.appcontext.index;
+
+import javax.tools.JavaCompiler;
+import javax.tools.JavaFileObject;
+import javax.tools.SimpleJavaFileObject;
+import javax.tools.ToolProvider;
+import java.io.File;
+import java.io.StringWriter;
+import java.net.URI;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Compiles Java sources held in memory into a class output directory, the way a build would.
+ */
+final class Sources {
+
+    private Sources() {
+    }
+
+    /**
+     * Compiles the sources with the output directory and the test classpath on the classpath.
+     *
+     * @param output          The class output directory.
+     * @param withIndex       Whether to run the {@link ComponentIndexProcessor}.
+     * @param sourcesByClass  The source code of each class, by fully qualified name.
+     */
+    static void compile(Path output, boolean withIndex, Map<String, String> sourcesByClass) {
+        JavaCompiler compiler = ToolProvider.getSystemJavaCompiler();
+        List<JavaFileObject> units = new ArrayList<>();
+        sourcesByClass.forEach((className, source) -> units.add(new SimpleJavaFileObject(
+                URI.create("string:///" + className.replace('.', '/') + ".java"), JavaFileObject.Kind.SOURCE) {
+            @Override
+            public CharSequence getCharContent(boolean ignoreEncodingErrors) {
+                return source;
+            }
+        }));
+        List<String> options = new ArrayList<>(List.of("-d", output.toString(),
+                "-cp", output + File.pathSeparator + System.getProperty("java.class.path")));
+        if (withIndex) {
+            options.addAll(List.of("-processor", ComponentIndexProcessor.class.getName()));
+        } else {
+            options.add("-proc:none");
+        }
+        StringWriter diagnostics = new StringWriter();
+        if (!compiler.getTask(diagnostics, null, null, options, null, units).call()) {
+            throw new IllegalStateException("Compilation failed: " + diagnostics);
+        }
+    }
+
+    /**
+     * Returns the source of a class in the given package, annotated with @Component if requested.
+     */
+    static String component(String className, boolean annotated) {
+        int dot = className.lastIndexOf('.');
+        return "package " + className.substring(0, dot) + ";\n"
+                + (annotated ? "@io.hohichh.appcontext.annotations.Component\n" : "")
+                + "public class " + className.substring(dot + 1) + " {}\n";
+    }
+}
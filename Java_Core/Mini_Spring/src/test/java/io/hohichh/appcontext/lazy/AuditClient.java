@@ -0,0 +1,15 @@
+package io.hohichh.appcontext.lazy;
+
+import io.hohichh.appcontext.annotations.Autowired;
+import io.hohichh.appcontext.annotations.Component;
+
+@Component
+public class AuditClient {
+
+    @Autowired
+    private Auditor auditor;
+
+    public Auditor getAuditor() {
+        return auditor;
+    }
+}
@@ -0,0 +1,7 @@
+package io.hohichh.appcontext.lazy;
+
+public interface Clock {
+    long now();
+
+    void fail();
+}
@@ -0,0 +1,27 @@
+package io.hohichh.appcontext.lazy;
+
+import io.hohichh.appcontext.annotations.Component;
+import io.hohichh.appcontext.annotations.Lazy;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+@Component
+@Lazy
+public class ExpensiveClock implements Clock {
+
+    public static final AtomicInteger INSTANCES = new AtomicInteger();
+
+    public ExpensiveClock() {
+        INSTANCES.incrementAndGet();
+    }
+
+    @Override
+    public long now() {
+        return 42;
+    }
+
+    @Override
+    public void fail() {
+        throw new UnsupportedOperationException("fail");
+    }
+}
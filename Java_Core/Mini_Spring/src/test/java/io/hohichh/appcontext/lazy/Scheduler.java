@@ -0,0 +1,15 @@
+package io.hohichh.appcontext.lazy;
+
+import io.hohichh.appcontext.annotations.Autowired;
+import io.hohichh.appcontext.annotations.Component;
+
+@Component
+public class Scheduler {
+
+    @Autowired
+    private Clock clock;
+
+    public Clock getClock() {
+        return clock;
+    }
+}
@@ -0,0 +1,17 @@
+package io.hohichh.appcontext.lazy;
+
+import io.hohichh.appcontext.annotations.Component;
+import io.hohichh.appcontext.annotations.Lazy;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+@Component
+@Lazy
+public class UnusedService {
+
+    public static final AtomicInteger INSTANCES = new AtomicInteger();
+
+    public UnusedService() {
+        INSTANCES.incrementAndGet();
+    }
+}
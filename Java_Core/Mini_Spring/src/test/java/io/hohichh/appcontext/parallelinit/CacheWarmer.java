@@ -0,0 +1,13 @@
+package io.hohichh.appcontext.parallelinit;
+
+import io.hohichh.appcontext.InitializingBean;
+import io.hohichh.appcontext.annotations.Component;
+
+@Component
+public class CacheWarmer implements InitializingBean {
+
+    @Override
+    public void afterPropertiesSet() throws Exception {
+        InitProbe.warmUp("CacheWarmer");
+    }
+}
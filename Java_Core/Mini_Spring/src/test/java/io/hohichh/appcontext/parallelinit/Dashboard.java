@@ -0,0 +1,23 @@
+package io.hohichh.appcontext.parallelinit;
+
+import io.hohichh.appcontext.InitializingBean;
+import io.hohichh.appcontext.annotations.Autowired;
+import io.hohichh.appcontext.annotations.Component;
+
+import java.util.Set;
+
+@Component
+public class Dashboard implements InitializingBean {
+
+    @Autowired
+    private CacheWarmer cacheWarmer;
+
+    @Autowired
+    private IndexWarmer indexWarmer;
+
+    @Override
+    public void afterPropertiesSet() {
+        InitProbe.seenByDashboard = Set.copyOf(InitProbe.FINISHED);
+        InitProbe.FINISHED.add("Dashboard");
+    }
+}
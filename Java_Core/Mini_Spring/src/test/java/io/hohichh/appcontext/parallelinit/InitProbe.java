@@ -0,0 +1,42 @@
+package io.hohichh.appcontext.parallelinit;
+
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Records how the beans of this package were initialized.
+ */
+public final class InitProbe {
+
+    /** Counted down by each warmer when its afterPropertiesSet starts. */
+    public static volatile CountDownLatch warmersRunning;
+    /** The warmers whose afterPropertiesSet saw the other warmer running at the same time. */
+    public static final Set<String> OVERLAPPED = ConcurrentHashMap.newKeySet();
+    /** The beans whose afterPropertiesSet has returned. */
+    public static final Set<String> FINISHED = ConcurrentHashMap.newKeySet();
+    /** The finished beans seen by the dashboard when it was initialized. */
+    public static volatile Set<String> seenByDashboard;
+
+    private InitProbe() {
+    }
+
+    public static void reset() {
+        warmersRunning = new CountDownLatch(2);
+        OVERLAPPED.clear();
+        FINISHED.clear();
+        seenByDashboard = null;
+    }
+
+    /**
+     * Waits until both warmers are inside afterPropertiesSet, which only happens if they run concurrently.
+     */
+    static void warmUp(String name) throws InterruptedException {
+        warmersRunning.countDown();
+        if (warmersRunning.await(10, TimeUnit.SECONDS)) {
+            OVERLAPPED.add(name);
+        }
+        FINISHED.add(name);
+    }
+}
@@ -0,0 +1,15 @@
+package io.hohichh.appcontext.stress;
+
+import io.hohichh.appcontext.annotations.Component;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+@Component
+public class StressRepository {
+
+    public static final AtomicInteger INSTANCES = new AtomicInteger();
+
+    public StressRepository() {
+        INSTANCES.incrementAndGet();
+    }
+}
@@ -0,0 +1,27 @@
+package io.hohichh.appcontext.stress;
+
+import io.hohichh.appcontext.annotations.Autowired;
+import io.hohichh.appcontext.annotations.Component;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+@Component
+public class StressService implements Runnable {
+
+    public static final AtomicInteger INSTANCES = new AtomicInteger();
+
+    @Autowired
+    private StressRepository repository;
+
+    public StressService() {
+        INSTANCES.incrementAndGet();
+    }
+
+    public StressRepository getRepository() {
+        return repository;
+    }
+
+    @Override
+    public void run() {
+    }
+}
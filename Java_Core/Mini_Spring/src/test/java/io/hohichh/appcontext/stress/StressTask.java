@@ -0,0 +1,17 @@
+package io.hohichh.appcontext.stress;
+
+import io.hohichh.appcontext.annotations.Autowired;
+import io.hohichh.appcontext.annotations.Component;
+import io.hohichh.appcontext.annotations.Scope;
+
+@Component
+@Scope("prototype")
+public class StressTask {
+
+    @Autowired
+    private Runnable service;
+
+    public Runnable getService() {
+        return service;
+    }
+}